@@ -19,7 +19,11 @@ package cucumberOptions;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
+import org.testng.xml.XmlSuite;
+import utils.ConfigReader;
 
 /**
  * Cucumber configuration options:
@@ -48,6 +52,32 @@ public class TestNgTestRunner extends AbstractTestNGCucumberTests {
     public TestNgTestRunner() {
         super();
     }
+
+    /**
+     * Runs scenarios through a parallel DataProvider. The number of concurrent scenarios
+     * (and therefore Chrome instances) is set by {@link #configureParallelWorkers}.
+     *
+     * @return scenarios to execute
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+
+    /**
+     * Applies parallel.workers from global.properties (or -Dparallel.workers) to the suite as its
+     * data-provider-thread-count. When the property is absent scenarios run one at a time.
+     *
+     * @param context TestNG context of the running suite
+     */
+    @BeforeClass(alwaysRun = true)
+    public void configureParallelWorkers(ITestContext context) {
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        int workers = Math.max(1, ConfigReader.getInt("parallel.workers", 1));
+        suite.setDataProviderThreadCount(workers);
+        System.out.println("Running scenarios with " + workers + " parallel worker(s)");
+    }
 //    //tags = "@ApplicationsRun"
 //    @Override
 //    @DataProvider(parallel = false)
@@ -37,4 +37,15 @@ Feature: Application Login
     
     Examples:
       | UserName |                             | Password |
-      | Sreeharsha@graphenesvc.com |           | Hahsrah13131?1!|
\ No newline at end of file
+      | Sreeharsha@graphenesvc.com |           | Hahsrah13131?1!|
+
+  @DashBoardRun @NavigationSmoke
+  Scenario: Validate search and home navigation
+
+    Given Open the Chrome Browser and Navigate to AccessPoint Login Page
+    When User login to the AccessPoint Site with the configured account
+    Then User will land on the Home page of the AccessPoint Site
+    And Click on the Application Tab
+    Then I click on the following Application and Validate the DashBoard Loading:
+      |       ANZ           |
+      |       Coke           |
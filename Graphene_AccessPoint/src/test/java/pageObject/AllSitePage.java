@@ -3,62 +3,79 @@ package pageObject;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ApplicationCatalog;
+import utils.LoadTimeStatistics;
+import utils.TileSnapshot;
+import utils.WaitConditions;
+import utils.WaitEngine;
+
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
 public class AllSitePage {
+    private static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(15);
 
     public WebDriver driver;
-    public WebDriverWait wait;
-    public String tileXpathTemplate = "//div[contains(@class,'Metaname') and contains(.,'%s')]";
+    public WaitEngine waits;
+    public static By metanameTiles = By.cssSelector("div.Metaname");
     public static By homeIcon = By.xpath("//a[@class='home-url']");
     public static By applicationsTab = By.xpath("//a[contains(text(),'Applications')]");
 
     public AllSitePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15)); // Increased timeout
+        this.waits = new WaitEngine(driver, DEFAULT_LOAD_TIMEOUT);
     }
 
     public void clickAndValidateSites(List<String> siteNames) {
         String parentWindow = driver.getWindowHandle();
+        // Read the grid once; lookups hit the snapshot and only re-scan when a tile reference goes stale
+        waits.until(ExpectedConditions.and(
+                ExpectedConditions.presenceOfElementLocated(metanameTiles),
+                WaitConditions.spinnerGone()));
+        TileSnapshot tiles = new TileSnapshot(driver, metanameTiles).rescan();
 
         for (String site : siteNames) {
             try {
-                String xpath = String.format(tileXpathTemplate, site);
-                WebElement tile = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
-                Thread.sleep(1000);
-                tile.click();
-                Thread.sleep(5000); // Let window load
+                Duration budget = LoadTimeStatistics.getInstance().budget(site, DEFAULT_LOAD_TIMEOUT);
+                String applicationsUrl = driver.getCurrentUrl();
+                long clickedAt = System.currentTimeMillis();
+                WebElement tile = tiles.click(site);
+                // Either a new window opens or the portal navigates in place; wait for whichever happens
+                waits.untilOrNull(ExpectedConditions.or(
+                        ExpectedConditions.numberOfWindowsToBe(2),
+                        ExpectedConditions.stalenessOf(tile)), budget);
                 Set<String> allWindows = driver.getWindowHandles();
                 if (allWindows.size() > 1) {
                     // Handle new window case
                     for (String win : allWindows) {
                         if (!win.equals(parentWindow)) {
                             driver.switchTo().window(win);
-                            Thread.sleep(2000);
+                            waits.until(WaitConditions.documentReady(), budget);
+                            learnTarget(site, applicationsUrl, true);
                             break;
                         }
                     }
-                    boolean pageLoaded = wait.until(ExpectedConditions.or(
+                    boolean pageLoaded = waits.until(ExpectedConditions.or(
                             ExpectedConditions.presenceOfElementLocated(By.cssSelector("div.dashboard, .site-content")),
                             ExpectedConditions.presenceOfElementLocated(By.tagName("body"))
-                    )) != null;
+                    ), budget) != null;
                     if (!pageLoaded) {
                         System.out.println("Site data did not load for: " + site);
+                    } else {
+                        LoadTimeStatistics.getInstance().record(site, System.currentTimeMillis() - clickedAt);
                     }
                     driver.close();
                     driver.switchTo().window(parentWindow);
                 } else {
                     // Handle same window case - use home icon navigation
+                    waits.untilOrNull(WaitConditions.documentReady(), budget);
+                    learnTarget(site, applicationsUrl, false);
                     navigateUsingHomeIcon();
                 }
-                Thread.sleep(2000);
 
                 // Ensure we're back on Applications Tab
                 returnToApplicationsTab();
-                Thread.sleep(5000);
 
             } catch (Exception e) {
                 System.out.println("Error handling site: " + site);
@@ -68,16 +85,27 @@ public class AllSitePage {
         }
     }
 
+    /**
+     * Records the current URL as the application's target, unless the click never left the
+     * Applications page (timed out, or the portal did not change the URL).
+     */
+    private void learnTarget(String site, String applicationsUrl, boolean newWindow) {
+        String targetUrl = driver.getCurrentUrl();
+        if (targetUrl == null || targetUrl.equals(applicationsUrl) || targetUrl.equals("about:blank")) {
+            System.out.println("No target URL learned for: " + site);
+            return;
+        }
+        ApplicationCatalog.getInstance().learnTarget(site, targetUrl, newWindow);
+    }
+
     private void navigateUsingHomeIcon() {
         try {
             System.out.println("Example for git push");
             System.out.println("Second example for git push");
-            WebElement homeIconElement = wait.until(ExpectedConditions.elementToBeClickable(homeIcon));
-            Thread.sleep(2000);
+            WebElement homeIconElement = waits.until(WaitConditions.elementStable(homeIcon));
             homeIconElement.click();
             System.out.println("Navigated using home icon");
-            wait.until(ExpectedConditions.presenceOfElementLocated(applicationsTab));
-            Thread.sleep(2000);
+            waits.until(WaitConditions.elementStable(applicationsTab));
         } catch (Exception e) {
             System.out.println("Failed to navigate using home icon");
             throw new RuntimeException("Home icon navigation failed", e);
@@ -86,12 +114,12 @@ public class AllSitePage {
 
     private void returnToApplicationsTab() {
         try {
-            WebElement applicationsTabElement = wait.until(ExpectedConditions.elementToBeClickable(applicationsTab));
-            Thread.sleep(2000);
+            WebElement applicationsTabElement = waits.until(WaitConditions.elementStable(applicationsTab));
             applicationsTabElement.click();
             System.out.println("Returned to Applications tab");
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(tileXpathTemplate.replace("%s", ""))));
-            Thread.sleep(2000);
+            waits.until(ExpectedConditions.and(
+                    ExpectedConditions.presenceOfElementLocated(metanameTiles),
+                    WaitConditions.spinnerGone()));
         } catch (Exception e) {
             System.out.println("Failed to return to Applications tab");
             throw new RuntimeException("Applications tab navigation failed", e);
@@ -104,7 +132,6 @@ public class AllSitePage {
             driver.switchTo().window(parentWindow);
             // Then attempt to return to Applications tab
             returnToApplicationsTab();
-            Thread.sleep(2000);
         } catch (Exception e) {
             System.out.println("Base state recovery failed");
             // Final attempt - refresh and try again
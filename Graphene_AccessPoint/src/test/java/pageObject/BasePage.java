@@ -0,0 +1,129 @@
+package pageObject;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ApplicationCatalog;
+import utils.DashboardValidator;
+import utils.SiteValidationResult;
+import utils.WaitEngine;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Locators and actions shared by the AccessPoint pages: the Graphene/Microsoft login flow, the
+ * portal's main tabs, the Applications search and tiles, and the dashboard frame.
+ */
+public class BasePage {
+    public WebDriver driver;
+    public WebDriverWait wait;
+    public WaitEngine waits;
+
+    public BasePage(WebDriver driver) {
+        this.driver = driver;
+        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.waits = new WaitEngine(driver);
+    }
+
+    public static By grapheneUser = By.xpath("//div[@class='media']/descendant::img[@class='media-image']");
+    public static By grapheneUserText = By.xpath("//div[@class='media']/descendant::p[@class='login-name']");
+
+    public static By microsoftSignInTextField = By.xpath("//input[@type='email']");
+    public static By microsoftSubmitBtn = By.xpath("//input[@type='submit']");
+    public static By microsoftPasswordTestField = By.xpath("//input[@name='passwd']");
+    public static By microsoftSignInBtn = By.xpath("//input[@type='submit']");
+    public static By microsoftDoNotShowAgain = By.name("DontShowAgain");
+    public static By microsoftYesBtn = By.xpath("//input[@type='submit']");
+    public static By accessPointText = By.xpath("//div[@class='col-md-4 text-center']/descendant::span[contains(text(),'Access Point')]");
+    public static By AllEmp = By.xpath("//a[contains(text(),'All Employees')]");
+    public static By applicatonsMainTab = By.xpath("//a[contains(text(),'Applications')]");
+    public static By searchApplication = By.xpath("//input[@type='text']");
+    public static String tileXpathTemplate = "//div[@data-placement='bottom' and contains(.,'%s')]";
+    public static String dashBoardCompanyName = "//div[@class='pull-left']/descendant::span[contains(.,'%s')]";
+    //    public static String containerLayout = "//div[@id='main-content']/descendant::div[@class='tab-zone-padding' and @style='inset: 0px; position: absolute;']/parent::*/parent::*/parent::*";
+//    public static String containerLayout = "//div[contains(@class,'tab-zone') and contains(@class,'tab-widget')]";
+    public static String containerLayout = "(//div[contains(@class,'tab-zone') and contains(@class,'tab-widget')])[2]";
+    //    public static String containerLayout = "/html/body/div[2]/div[2]/div[2]/div[1]/div/div[2]";
+    public static By homeIcon = By.xpath("//a[@class='home-url']");
+    public static String hidenFrameCss = "iframe";
+    public static By hidenFrame = By.cssSelector(hidenFrameCss);
+
+    public void selectGrapheneUser() {
+        driver.findElement(grapheneUser).click();
+    }
+
+    public String getGrapheneUserText() {
+        return driver.findElement(grapheneUserText).getText();
+    }
+
+    public void searchMicrosoftSignInTextField(String UserName) {
+        driver.findElement(microsoftSignInTextField).sendKeys(UserName);
+    }
+
+    public void microsoftSubmitBtn() {
+        driver.findElement(microsoftSubmitBtn).click();
+    }
+
+    public void SendMicrosoftPasswordTestField(String Password) {
+        driver.findElement(microsoftPasswordTestField).sendKeys(Password);
+    }
+
+    public WebElement microsoftSignInBtn() {
+
+        WebElement ele = driver.findElement(microsoftSignInBtn);
+        ele.click();
+        return ele;
+    }
+
+    public void microsoftDoNotShowAgain() {
+        driver.findElement(microsoftDoNotShowAgain).click();
+
+    }
+
+    public void microsoftYesBtn() {
+        driver.findElement(microsoftYesBtn).click();
+    }
+
+    public String accessPointText() {
+
+        String accessPointTexts = driver.findElement(accessPointText).getText();
+        return accessPointTexts;
+    }
+
+    public void getAllEmpMainTabs() {
+        String appText = driver.findElement(AllEmp).getText();
+        System.out.println(appText);
+        driver.findElement(AllEmp);
+
+    }
+
+    public void getAppMainTab() {
+        driver.findElement(applicatonsMainTab).click();
+    }
+
+    /**
+     * Indexes the tiles of the Applications tab into the {@link ApplicationCatalog}.
+     * Cheap when the tile set has not changed; indexing problems never fail the scenario.
+     */
+    public void indexApplications() {
+        try {
+            ApplicationCatalog.getInstance().refresh(driver);
+        } catch (Exception e) {
+            System.out.println("Application catalog not refreshed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates each site's landing dashboard and, when includeTabs is set, every tab declared
+     * for it in dashboards.json.
+     *
+     * @param siteNames application names from the feature data table
+     * @param includeTabs whether to walk the tabs declared in dashboards.json
+     * @return one result per site, in data table order
+     */
+    public List<SiteValidationResult> clickAndValidateSites(List<String> siteNames, boolean includeTabs) {
+        return new DashboardValidator(driver).validateAll(siteNames, includeTabs);
+    }
+}
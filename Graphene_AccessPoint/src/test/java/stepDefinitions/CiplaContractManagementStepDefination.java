@@ -6,9 +6,12 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.testng.Assert;
+import pageObject.BasePage;
 import pageObject.CiplaContractManagementPage;
 
+import utils.SiteValidationResult;
 import utils.TestContextSetUp;
+import utils.WaitConditions;
 
 import java.util.List;
 
@@ -21,6 +24,10 @@ public class CiplaContractManagementStepDefination {
     }
     @Given("Open the Chrome Browser and Navigate to AccessPoint Login Pages")
     public void open_the_chrome_browser_and_navigate_to_access_point_url_urls() {
+        if (testContextSetUp.testBase.isWarmSession()) {
+            System.out.println("Reusing an authenticated browser from the WebDriver pool");
+            return;
+        }
         Assert.assertTrue(ciplaContractManagementPage.getGrapheneUserText().contains("Graphene User"));
         System.out.println(ciplaContractManagementPage.getGrapheneUserText());
     }
@@ -31,6 +38,10 @@ public class CiplaContractManagementStepDefination {
      */
     @When("^User login to the AccessPoint Site usings (.+) and (.+)$")
     public void user_login_to_the_access_point_site_using_UserName_And_Passwords(String UserName, String Password) throws InterruptedException {
+        if (testContextSetUp.testBase.isWarmSession()) {
+            System.out.println("✅ Already authenticated via pooled browser");
+            return;
+        }
         System.out.println("🔐 Starting authentication with session management...");
         
         // Use the new authentication manager with session support
@@ -65,20 +76,17 @@ public class CiplaContractManagementStepDefination {
     @Then("User will land on the Home page of the AccessPoint Sites")
     public void user_will_land_on_the_home_page_of_the_access_point_sites() throws InterruptedException {
         Assert.assertTrue(ciplaContractManagementPage.accessPointText().contains("Access Point"));
-        Thread.sleep(200);
         System.out.println(ciplaContractManagementPage.accessPointText());
     }
     @And("Click on the Application Tabs")
     public void click_On_The_ApplicationTabs() throws InterruptedException {
         ciplaContractManagementPage.getAllEmpMainTabs();
-        Thread.sleep(200);
         ciplaContractManagementPage.getAppMainTab();
-        Thread.sleep(200);
+        ciplaContractManagementPage.waits.until(WaitConditions.elementStable(BasePage.searchApplication));
     }
     @Then("I click on the following Application and Validate the DashBoard Loadings:")
     public void clickAndValidateSites(DataTable table) throws InterruptedException {
         List<String> siteNames = table.asList();
-        Thread.sleep(200);
-        ciplaContractManagementPage.clickAndValidateSites(siteNames);
+        SiteValidationResult.assertAllPassed(ciplaContractManagementPage.clickAndValidateSites(siteNames, true));
     }
 }
@@ -4,6 +4,7 @@ import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import pageObject.ConstellationPriceWatcherPage;
 import pageObject.CoronisPerformancePage;
+import utils.SiteValidationResult;
 import utils.TestContextSetUp;
 
 import java.util.List;
@@ -19,7 +20,6 @@ public class CoronisPerformanceStepDefinitions {
     @Then("I click on the following Applications and Validate the Coronis Performance DashBoard Loadings:")
     public void clickAndValidateSites(DataTable table) throws InterruptedException {
         List<String> siteNames = table.asList();
-        Thread.sleep(200);
-        coronisPerformancePage.clickAndValidateSites(siteNames);
+        SiteValidationResult.assertAllPassed(coronisPerformancePage.clickAndValidateSites(siteNames, true));
     }
 }
@@ -4,6 +4,7 @@ import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import pageObject.CoronisPerformancePage;
 import pageObject.CostManagementReportPage;
+import utils.SiteValidationResult;
 import utils.TestContextSetUp;
 
 import java.util.List;
@@ -20,7 +21,6 @@ public class CostManagementReportStepDefination {
     @Then("I click on the following Applications and Validate the Cost Management Report DashBoard Loadings:")
     public void clickAndValidateSites(DataTable table) throws InterruptedException {
         List<String> siteNames = table.asList();
-        Thread.sleep(200);
-        costManagementReportPage.clickAndValidateSites(siteNames);
+        SiteValidationResult.assertAllPassed(costManagementReportPage.clickAndValidateSites(siteNames, true));
     }
 }
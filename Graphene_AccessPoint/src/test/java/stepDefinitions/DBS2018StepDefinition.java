@@ -3,6 +3,7 @@ package stepDefinitions;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import pageObject.DBS2018Page;
+import utils.SiteValidationResult;
 import utils.TestContextSetUp;
 
 import java.util.List;
@@ -19,7 +20,6 @@ public class DBS2018StepDefinition {
     @Then("I click on the following Applications and Validate the DBS 2018 DashBoard Loadings:")
     public void clickAndValidateSites(DataTable table) throws InterruptedException {
         List<String> siteNames = table.asList();
-        Thread.sleep(200);
-        dbs2018Page.clickAndValidateSites(siteNames);
+        SiteValidationResult.assertAllPassed(dbs2018Page.clickAndValidateSites(siteNames, true));
     }
 }
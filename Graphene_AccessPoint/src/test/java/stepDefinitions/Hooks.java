@@ -4,17 +4,30 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import org.openqa.selenium.WebDriver;
+import utils.CommandMetrics;
+import utils.DashboardUrlResolver;
 import utils.ExtentReportManager;
+import utils.LoadHistoryStore;
+import utils.LoadTimeStatistics;
+import utils.MetricsEndpoint;
+import utils.ReportPipeline;
+import utils.ScreenshotService;
+import utils.SessionHttpProbe;
+import utils.SessionKeepAlive;
+import utils.SiteResultsWriter;
 import utils.TestContextSetUp;
+import utils.WebDriverPool;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Hooks {
     public  static ExtentReports extent;
-    public static ExtentTest test;
     TestContextSetUp testContextSetUp;
     WebDriver driver;
 
@@ -22,36 +35,94 @@ public class Hooks {
         this.testContextSetUp=testContextSetUp;
     }
 
+    @BeforeAll
+    public static void beforeAllScenarios() {
+        // Drop a saved login the server no longer accepts before any browser tries to restore it
+        if (SessionHttpProbe.isEnabled()) {
+            SessionHttpProbe.discardIfRejected();
+        }
+        SessionKeepAlive.startIfEnabled();
+        MetricsEndpoint.startIfEnabled();
+    }
+
     @Before
     public void beforeScenario(Scenario scenario) {
         extent = ExtentReportManager.getInstance();
-        test = extent.createTest(scenario.getName());
+        // Each scenario thread logs to its own ExtentTest; the report itself is written off this thread
+        ReportPipeline.startScenario(scenario.getName());
+        CommandMetrics.startScenario(metricsScope(scenario));
+    }
+
+    @Before("@NavigationSmoke")
+    public void useSearchNavigation() {
+        // Keeps the search/tile/home round-trip covered when the run uses deep links
+        DashboardUrlResolver.forceSearchNavigation(true);
     }
 
     @After
-    public void AferSecnario() throws IOException {
-        testContextSetUp.testBase.WebDriverManager().quit();
-        System.out.println("Closing the Browser");
+    public void AferSecnario(Scenario scenario) throws IOException {
+        try {
+            MetricsEndpoint.scenarioFinished(scenario.isFailed());
+            testContextSetUp.testBase.releaseDriver();
+            System.out.println("Released the Browser");
+            String commandSummary = CommandMetrics.summaryHtml(metricsScope(scenario));
+            if (commandSummary != null) {
+                logInfo(commandSummary);
+            }
+        } finally {
+            DashboardUrlResolver.forceSearchNavigation(false);
+            CommandMetrics.endScenario();
+            ReportPipeline.endScenario();
+        }
+    }
+
+    @AfterAll
+    public static void afterAllScenarios() {
+        SessionKeepAlive.stopIfStarted();
+        WebDriverPool.shutdownIfStarted();
+        LoadTimeStatistics.getInstance().save();
+        CommandMetrics.writeReport();
+        SiteResultsWriter.closeIfOpen();
+        ScreenshotService.shutdownIfStarted();
+        LoadHistoryStore.finishRunIfEnabled();
+        MetricsEndpoint.stopIfStarted();
+        ReportPipeline.shutdown();
+        // Last, so every report above is written before the run is failed
+        LoadHistoryStore.failOnRegressionIfConfigured();
     }
+
+    private static String metricsScope(Scenario scenario) {
+        // Line keeps scenario outline examples with the same name apart
+        return scenario.getName() + ":" + scenario.getLine();
+    }
+
     public void tearDown() {
         if (driver != null) {
             driver.quit();  // Closes all browser windows and ends the WebDriver session
         }
     }
 
+    public static ExtentTest getTest() {
+        return ReportPipeline.currentTest();
+    }
+
     public static void logInfo(String message) {
-        test.log(Status.INFO, message);
+        ReportPipeline.log(Status.INFO, message);
     }
 
     public static void logPass(String message) {
-        test.log(Status.PASS, message);
+        ReportPipeline.log(Status.PASS, message);
     }
 
     public static void logFail(String message) {
-        test.log(Status.FAIL, message);
+        ReportPipeline.log(Status.FAIL, message);
     }
 
     public static void addScreenshot(String path, String title) {
-        test.addScreenCaptureFromPath(path, title);
+        ReportPipeline.addScreenshot(path, title);
+    }
+
+    public static void addScreenshot(CompletableFuture<String> path, String title) {
+        ReportPipeline.addScreenshot(path, title);
     }
 }
@@ -0,0 +1,214 @@
+package utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AccountPool spreads parallel scenarios over several test accounts, so the portal never sees
+ * many concurrent sessions of one account.
+ *
+ * A scenario leases one account for its whole run and gets that account's own saved session
+ * (see {@link SessionManager#useAccount(String)}). The least recently used healthy account is
+ * handed out first. An account whose login failed is put on cooldown, doubling with every
+ * consecutive failure, and is skipped until the cooldown ends.
+ *
+ * The pool is active only when accounts are listed in global.properties; otherwise every
+ * scenario uses UserName/Password as before.
+ *
+ * Configuration (global.properties):
+ * account.N.user / account.N.password - test accounts, N = 1, 2, ...
+ * account.cooldown.seconds            - cooldown after a failed login (300)
+ * account.lease.timeout.seconds       - how long a scenario waits for a free account (300)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class AccountPool {
+
+    private static final long MAX_COOLDOWN_FACTOR = 8;
+    private static volatile AccountPool instance;
+    private static final ThreadLocal<Account> leased = new ThreadLocal<>();
+
+    private final List<Account> accounts;
+    private final Duration cooldown;
+    private final Duration leaseTimeout;
+
+    AccountPool(List<Account> accounts, Duration cooldown, Duration leaseTimeout) {
+        this.accounts = Collections.unmodifiableList(accounts);
+        this.cooldown = cooldown;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Checks whether test accounts are configured (account.1.user).
+     *
+     * @return true if scenarios should lease accounts
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getProperty("account.1.user") != null;
+    }
+
+    public static AccountPool getInstance() {
+        if (instance == null) {
+            synchronized (AccountPool.class) {
+                if (instance == null) {
+                    List<Account> configured = new ArrayList<>();
+                    for (int n = 1; ConfigReader.getProperty("account." + n + ".user") != null; n++) {
+                        configured.add(new Account(ConfigReader.getProperty("account." + n + ".user"),
+                                ConfigReader.getProperty("account." + n + ".password")));
+                    }
+                    instance = new AccountPool(configured,
+                            Duration.ofSeconds(ConfigReader.getInt("account.cooldown.seconds", 300)),
+                            Duration.ofSeconds(ConfigReader.getInt("account.lease.timeout.seconds", 300)));
+                    System.out.println("✅ Account pool created with " + configured.size() + " account(s)");
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Leases an account for the scenario running on this thread and switches the thread's saved
+     * session to it. No effect when the pool is not enabled or the thread already holds an account.
+     *
+     * @return the leased account, or null when the pool is not enabled
+     * @throws InterruptedException if interrupted while waiting for a free account
+     */
+    public static Account leaseForCurrentThread() throws InterruptedException {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (leased.get() == null) {
+            Account account = getInstance().lease();
+            leased.set(account);
+            SessionManager.useAccount(account.getUser());
+            SessionKeepAlive.watch(account.getUser());
+            System.out.println("Leased account " + account.getUser() + " on " + Thread.currentThread().getName());
+        }
+        return leased.get();
+    }
+
+    /**
+     * @return the account leased by this thread, or null
+     */
+    public static Account current() {
+        return leased.get();
+    }
+
+    /**
+     * Marks this thread's account as unhealthy, e.g. after its login failed; it goes on cooldown when released.
+     */
+    public static void reportFailure() {
+        Account account = leased.get();
+        if (account != null) {
+            account.failedThisLease = true;
+        }
+    }
+
+    /**
+     * Returns this thread's account to the pool. No effect if the thread holds none.
+     */
+    public static void releaseCurrent() {
+        Account account = leased.get();
+        if (account == null) {
+            return;
+        }
+        leased.remove();
+        SessionManager.useAccount(null);
+        getInstance().release(account);
+    }
+
+    /**
+     * Leases the least recently used account that is neither leased nor cooling down, waiting
+     * for one to be released or to leave cooldown.
+     *
+     * @return leased account
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized Account lease() throws InterruptedException {
+        if (accounts.isEmpty()) {
+            throw new IllegalStateException("No accounts configured (account.1.user)");
+        }
+        long deadline = System.currentTimeMillis() + leaseTimeout.toMillis();
+        while (true) {
+            long now = System.currentTimeMillis();
+            Account best = null;
+            long nextCooldownEnd = Long.MAX_VALUE;
+            for (Account account : accounts) {
+                if (account.leasedNow) {
+                    continue;
+                }
+                if (account.cooldownUntil > now) {
+                    nextCooldownEnd = Math.min(nextCooldownEnd, account.cooldownUntil);
+                    continue;
+                }
+                if (best == null || account.lastUsed < best.lastUsed) {
+                    best = account;
+                }
+            }
+            if (best != null) {
+                best.leasedNow = true;
+                best.failedThisLease = false;
+                return best;
+            }
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                throw new IllegalStateException("No healthy account became available within " + leaseTimeout.getSeconds() + "s (" + accounts.size() + " accounts)");
+            }
+            wait(Math.max(1, Math.min(remaining, nextCooldownEnd - now)));
+        }
+    }
+
+    /**
+     * Returns an account; a failed lease puts it on cooldown, a good one clears its failure count.
+     *
+     * @param account account obtained from {@link #lease()}
+     */
+    public synchronized void release(Account account) {
+        long now = System.currentTimeMillis();
+        account.leasedNow = false;
+        account.lastUsed = now;
+        if (account.failedThisLease) {
+            account.consecutiveFailures++;
+            long factor = Math.min(MAX_COOLDOWN_FACTOR, 1L << Math.min(30, account.consecutiveFailures - 1));
+            account.cooldownUntil = now + cooldown.toMillis() * factor;
+            System.out.println("⚠️ Account " + account.getUser() + " cooling down until " + new java.util.Date(account.cooldownUntil));
+        } else {
+            account.consecutiveFailures = 0;
+        }
+        notifyAll();
+    }
+
+    /**
+     * One test account and its lease state. Guarded by the pool's monitor.
+     */
+    public static class Account {
+        private final String user;
+        private final String password;
+        private boolean leasedNow;
+        private volatile boolean failedThisLease;
+        private int consecutiveFailures;
+        private long lastUsed;
+        private long cooldownUntil;
+
+        Account(String user, String password) {
+            this.user = user;
+            this.password = password;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String toString() {
+            return user;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ApplicationCatalog indexes the tiles of the Applications tab and persists them between runs,
+ * so page objects can resolve an application from memory instead of searching the DOM with a
+ * contains() XPath.
+ *
+ * Each entry holds the application name, the tile's id and the attribute it came from (id or
+ * data-id), the URL the tile leads to, whether it opens a new window, and when the tile was last
+ * seen. The tiles are scraped with one script call. The script also fingerprints the tile names,
+ * and when the fingerprint matches the stored one only the last-seen timestamps are updated; the
+ * catalog is re-scraped and merged only when the tile set changes, and applications whose tile is
+ * gone are dropped. Target URLs and window behaviour learned while opening applications are kept
+ * across refreshes.
+ *
+ * The file is only rewritten when an entry changed; last-seen timestamps alone do not cause a
+ * write and are saved with the next change.
+ *
+ * Configuration (global.properties):
+ * catalog.file - catalog location (test-output/application-catalog.json)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class ApplicationCatalog {
+
+    /**
+     * Tile containers used by the Applications tab (see tileXpathTemplate in the page objects).
+     */
+    public static final By TILES = By.cssSelector("div[data-placement='bottom'], div.Metaname");
+
+    private static final String SCRAPE_SCRIPT =
+            "var known = arguments[0];" +
+            "var tiles = Array.prototype.slice.call(document.querySelectorAll(arguments[1]));" +
+            "var names = tiles.map(function (t) { return (t.innerText || t.textContent || '').trim().split('\\n')[0].trim(); });" +
+            "var hash = 5381, joined = names.slice().sort().join('\\n');" +
+            "for (var i = 0; i < joined.length; i++) { hash = ((hash << 5) + hash + joined.charCodeAt(i)) | 0; }" +
+            "var fingerprint = tiles.length + ':' + hash;" +
+            "if (fingerprint === known) { return {fingerprint: fingerprint, unchanged: true, names: names}; }" +
+            "return {fingerprint: fingerprint, unchanged: false, tiles: tiles.map(function (t, i) {" +
+            "  var link = t.closest('a') || t.querySelector('a');" +
+            "  var attribute = t.id ? 'id' : (t.getAttribute('data-id') ? 'data-id' : null);" +
+            "  return {name: names[i], tileId: attribute ? t.getAttribute(attribute) : null, tileIdAttribute: attribute," +
+            "          targetUrl: link && link.href && link.href.indexOf('javascript:') !== 0 ? link.href : null," +
+            "          newWindow: link ? link.target === '_blank' : null};" +
+            "})};";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static volatile ApplicationCatalog instance;
+
+    private final File file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile String fingerprint;
+    private boolean dirty;
+
+    private ApplicationCatalog() {
+        String path = ConfigReader.getProperty("catalog.file", "test-output/application-catalog.json");
+        this.file = new File(path).isAbsolute() ? new File(path) : new File(System.getProperty("user.dir"), path);
+        load();
+    }
+
+    /**
+     * Gets the shared catalog, loading the persisted one on first use.
+     *
+     * @return the application catalog
+     */
+    public static ApplicationCatalog getInstance() {
+        if (instance == null) {
+            synchronized (ApplicationCatalog.class) {
+                if (instance == null) {
+                    instance = new ApplicationCatalog();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Looks up an application by its tile name.
+     *
+     * @param name application name as shown on the tile
+     * @return catalog entry, or null if the application is not indexed
+     */
+    public Entry get(String name) {
+        return name == null ? null : entries.get(name.trim());
+    }
+
+    /**
+     * Gets the names of all indexed applications.
+     *
+     * @return application names
+     */
+    public List<String> names() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /**
+     * Indexes the tiles of the Applications tab shown in the driver. Re-scrapes only when the tile
+     * set differs from the stored fingerprint.
+     *
+     * @param driver driver showing the Applications tab
+     * @return true if the tile set changed and the catalog was rebuilt
+     */
+    public synchronized boolean refresh(WebDriver driver) {
+        new WaitEngine(driver).untilOrNull(ExpectedConditions.presenceOfElementLocated(TILES), Duration.ofSeconds(10));
+        Map<?, ?> response = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(
+                SCRAPE_SCRIPT, fingerprint, ((By.Remotable) TILES).getRemoteParameters().value());
+        long now = System.currentTimeMillis();
+
+        if (Boolean.TRUE.equals(response.get("unchanged"))) {
+            for (Object name : (List<?>) response.get("names")) {
+                Entry entry = entries.get(String.valueOf(name));
+                if (entry != null) {
+                    entry.setLastSeen(now);
+                }
+            }
+            return false;
+        }
+
+        int added = 0;
+        Set<String> seen = new HashSet<>();
+        for (Object raw : (List<?>) response.get("tiles")) {
+            Map<?, ?> tile = (Map<?, ?>) raw;
+            String name = String.valueOf(tile.get("name"));
+            if (name.isEmpty()) {
+                continue;
+            }
+            seen.add(name);
+            Entry entry = entries.get(name);
+            if (entry == null) {
+                entry = new Entry();
+                entry.setName(name);
+                entries.put(name, entry);
+                added++;
+            }
+            entry.setTileId((String) tile.get("tileId"));
+            entry.setTileIdAttribute((String) tile.get("tileIdAttribute"));
+            // Keep a URL learned by opening the application when the tile itself has no link
+            if (tile.get("targetUrl") != null) {
+                entry.setTargetUrl((String) tile.get("targetUrl"));
+            }
+            if (tile.get("newWindow") != null) {
+                entry.setNewWindow((Boolean) tile.get("newWindow"));
+            }
+            entry.setLastSeen(now);
+        }
+        int removed = entries.size();
+        entries.keySet().retainAll(seen);
+        removed -= entries.size();
+        fingerprint = (String) response.get("fingerprint");
+        dirty = true;
+        System.out.println("📇 Application catalog refreshed: " + entries.size() + " applications (" + added + " new, "
+                + removed + " removed)");
+        save();
+        return true;
+    }
+
+    /**
+     * Records where an application actually led after its tile was clicked.
+     *
+     * @param name application name as shown on the tile
+     * @param targetUrl URL of the opened dashboard
+     * @param newWindow true if the tile opened a new window
+     */
+    public synchronized void learnTarget(String name, String targetUrl, boolean newWindow) {
+        if (name == null || targetUrl == null || !targetUrl.startsWith("http")) {
+            return;
+        }
+        Entry entry = entries.computeIfAbsent(name.trim(), key -> {
+            Entry created = new Entry();
+            created.setName(key);
+            return created;
+        });
+        boolean changed = !targetUrl.equals(entry.getTargetUrl()) || !Boolean.valueOf(newWindow).equals(entry.getNewWindow());
+        entry.setTargetUrl(targetUrl);
+        entry.setNewWindow(newWindow);
+        entry.setLastSeen(System.currentTimeMillis());
+        if (changed) {
+            dirty = true;
+            save();
+        }
+    }
+
+    /**
+     * Drops the learned target URL of an application, e.g. after it stopped leading to the dashboard.
+     *
+     * @param name application name as shown on the tile
+     */
+    public synchronized void forgetTarget(String name) {
+        Entry entry = get(name);
+        if (entry != null && entry.getTargetUrl() != null) {
+            entry.setTargetUrl(null);
+            dirty = true;
+            save();
+        }
+    }
+
+    /**
+     * Writes the catalog to disk if an entry changed since it was loaded or last saved.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("fingerprint", fingerprint);
+        document.put("applications", new ArrayList<>(entries.values()));
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, document);
+            dirty = false;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not save application catalog: " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            CatalogFile stored = objectMapper.readValue(file, CatalogFile.class);
+            fingerprint = stored.fingerprint;
+            if (stored.applications != null) {
+                for (Entry entry : stored.applications) {
+                    entries.put(entry.getName(), entry);
+                }
+            }
+            System.out.println("Loaded application catalog with " + entries.size() + " applications");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read application catalog, it will be rebuilt: " + e.getMessage());
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class CatalogFile {
+        public String fingerprint;
+        public List<Entry> applications;
+    }
+
+    /**
+     * One application tile.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        private String name;
+        private String tileId;
+        private String tileIdAttribute;
+        private String targetUrl;
+        private Boolean newWindow;
+        private long lastSeen;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTileId() {
+            return tileId;
+        }
+
+        public void setTileId(String tileId) {
+            this.tileId = tileId;
+        }
+
+        /**
+         * @return attribute the tile id was read from, "id" or "data-id"
+         */
+        public String getTileIdAttribute() {
+            return tileIdAttribute;
+        }
+
+        public void setTileIdAttribute(String tileIdAttribute) {
+            this.tileIdAttribute = tileIdAttribute;
+        }
+
+        public String getTargetUrl() {
+            return targetUrl;
+        }
+
+        public void setTargetUrl(String targetUrl) {
+            this.targetUrl = targetUrl;
+        }
+
+        /**
+         * @return true if the tile opens a new window, null if not known yet
+         */
+        public Boolean getNewWindow() {
+            return newWindow;
+        }
+
+        public void setNewWindow(Boolean newWindow) {
+            this.newWindow = newWindow;
+        }
+
+        public long getLastSeen() {
+            return lastSeen;
+        }
+
+        public void setLastSeen(long lastSeen) {
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package utils;
 
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pageObject.BasePage;
 import pageObject.CiplaContractManagementPage;
 
 import java.io.IOException;
@@ -16,6 +19,10 @@ import java.time.Duration;
  */
 public class AuthenticationManager {
     
+    private static final String AUTHENTICATION_KEY = "authentication";
+    // A person approves the PIN; a few quick approvals must not shrink the wait below this
+    private static final Duration PIN_APPROVAL_FLOOR = Duration.ofSeconds(30);
+    
     private WebDriver driver;
     private WebDriverWait wait;
     private CiplaContractManagementPage loginPage;
@@ -37,26 +44,51 @@ public class AuthenticationManager {
      */
     public boolean authenticateWithSessionManagement(String username, String password) throws InterruptedException {
         System.out.println("Starting authentication with session management...");
+        SessionManager.useAccount(username);
+        SessionKeepAlive.watch(username);
         
-        // First, try to load existing session
-        if (SessionManager.sessionExists()) {
-            System.out.println("Found existing session, attempting to load...");
-            
-            if (SessionManager.loadSessionState(driver)) {
-                // Navigate to the application URL to test session
-                navigateToApplication();
-                
-                // Check if session is still valid
-                if (SessionManager.isSessionValid(driver)) {
-                    System.out.println("✅ Existing session is valid! Skipping login.");
+        // Decide from the saved file first; only an inconclusive session needs the in-browser check
+        SessionManager.SessionAssessment assessment = SessionManager.assessSession();
+        System.out.println("Saved session: " + assessment);
+        
+        switch (assessment.getStatus()) {
+            case FRESH:
+                if (SessionManager.loadSessionState(driver)) {
+                    reloadApplication();
+                    System.out.println("✅ Existing session has not expired! Skipping login.");
                     return true;
-                } else {
-                    System.out.println("❌ Existing session is invalid, proceeding with fresh login...");
-                    SessionManager.clearSession();
                 }
-            }
-        } else {
-            System.out.println("No existing session found, proceeding with fresh login...");
+                break;
+            case UNKNOWN:
+                // One HTTP request with the saved cookies settles most cases without the browser
+                SessionHttpProbe.Result probe = SessionHttpProbe.isEnabled()
+                        ? SessionHttpProbe.probeSavedSession() : SessionHttpProbe.Result.UNREACHABLE;
+                if (probe == SessionHttpProbe.Result.EXPIRED || probe == SessionHttpProbe.Result.REDIRECT_TO_LOGIN) {
+                    System.out.println("❌ Existing session was rejected by the server, proceeding with fresh login...");
+                    SessionManager.clearStaleSession();
+                    break;
+                }
+                System.out.println("Found existing session, attempting to load...");
+                if (SessionManager.loadSessionState(driver)) {
+                    // Reload the application URL to test session
+                    reloadApplication();
+                    
+                    // Check if session is still valid
+                    if (probe == SessionHttpProbe.Result.VALID || SessionManager.isSessionValid(driver)) {
+                        System.out.println("✅ Existing session is valid! Skipping login.");
+                        return true;
+                    } else {
+                        System.out.println("❌ Existing session is invalid, proceeding with fresh login...");
+                        SessionManager.clearStaleSession();
+                    }
+                }
+                break;
+            case EXPIRED:
+                System.out.println("❌ Existing session has expired, proceeding with fresh login...");
+                SessionManager.clearStaleSession();
+                break;
+            default:
+                System.out.println("No existing session found, proceeding with fresh login...");
         }
         
         // Perform fresh login
@@ -84,34 +116,51 @@ public class AuthenticationManager {
                 return false;
             }
             
-            // Perform login steps
+            // Perform login steps, each once its field or button can be used
+            loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.grapheneUser));
             loginPage.selectGrapheneUser();
-            Thread.sleep(500);
             
+            loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftSignInTextField));
             loginPage.searchMicrosoftSignInTextField(username);
-            Thread.sleep(200);
             
+            loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftSubmitBtn));
             loginPage.microsoftSubmitBtn();
-            Thread.sleep(200);
             
+            loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftPasswordTestField));
             loginPage.SendMicrosoftPasswordTestField(password);
-            Thread.sleep(2000);
             
+            loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftSignInBtn));
             loginPage.microsoftSignInBtn();
+            long signInAt = System.currentTimeMillis();
             
             // Wait for mobile PIN verification
             System.out.println("🔐 Please complete mobile PIN verification...");
             System.out.println("⏳ Waiting for authentication to complete...");
             
-            // Wait longer for mobile PIN verification
-            Thread.sleep(15000);
+            // Wait until the PIN is approved: either the "Stay signed in" prompt or the portal shows up.
+            // Only this wait uses the approval time learned from previous logins, never less than 30 s
+            Duration learned = LoadTimeStatistics.getInstance().budget(AUTHENTICATION_KEY, PIN_APPROVAL_FLOOR);
+            Duration pinBudget = learned.compareTo(PIN_APPROVAL_FLOOR) < 0 ? PIN_APPROVAL_FLOOR : learned;
+            try {
+                new WebDriverWait(driver, pinBudget).until(ExpectedConditions.or(
+                        ExpectedConditions.presenceOfElementLocated(BasePage.microsoftDoNotShowAgain),
+                        ExpectedConditions.presenceOfElementLocated(BasePage.accessPointText)));
+            } catch (TimeoutException e) {
+                // A missed approval counts at the 30 s floor; recording the budget would grow it on every miss
+                LoadTimeStatistics.getInstance().recordFailure(AUTHENTICATION_KEY, PIN_APPROVAL_FLOOR);
+                throw e;
+            }
+            LoadTimeStatistics.getInstance().record(AUTHENTICATION_KEY, System.currentTimeMillis() - signInAt);
             
             // Handle post-authentication dialogs
             try {
-                loginPage.microsoftDoNotShowAgain();
-                Thread.sleep(200);
-                loginPage.microsoftYesBtn();
-                Thread.sleep(1000);
+                if (loginPage.waits.untilOrNull(ExpectedConditions.presenceOfElementLocated(BasePage.microsoftDoNotShowAgain), Duration.ZERO) != null) {
+                    loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftDoNotShowAgain));
+                    loginPage.microsoftDoNotShowAgain();
+                    loginPage.waits.until(ExpectedConditions.elementToBeClickable(BasePage.microsoftYesBtn));
+                    loginPage.microsoftYesBtn();
+                }
+                loginPage.waits.until(ExpectedConditions.presenceOfElementLocated(BasePage.accessPointText));
             } catch (Exception e) {
                 System.out.println("Post-auth dialogs may not be present: " + e.getMessage());
             }
@@ -158,6 +207,24 @@ public class AuthenticationManager {
         }
     }
     
+    /**
+     * Loads the application URL again so a restored session takes effect. The restore itself
+     * does not navigate, so the browser is usually still on the pre-login page of Testurl.
+     */
+    private void reloadApplication() {
+        try {
+            String appUrl = ConfigReader.getProperty("Testurl");
+            String currentUrl = driver.getCurrentUrl();
+            if (appUrl != null && (currentUrl == null || !currentUrl.startsWith(appUrl))) {
+                driver.get(appUrl);
+            } else {
+                driver.navigate().refresh();
+            }
+        } catch (Exception e) {
+            System.out.println("Navigation issue: " + e.getMessage());
+        }
+    }
+    
     /**
      * Forces a fresh login by clearing existing session.
      * Use this when you want to ensure a new authentication.
@@ -169,6 +236,7 @@ public class AuthenticationManager {
      */
     public boolean forceLogin(String username, String password) throws InterruptedException {
         System.out.println("Forcing fresh login (clearing existing session)...");
+        SessionManager.useAccount(username);
         SessionManager.clearSession();
         return performFreshLogin(username, password);
     }
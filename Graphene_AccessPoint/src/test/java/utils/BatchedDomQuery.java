@@ -0,0 +1,199 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BatchedDomQuery resolves several locators in a single executeScript call and returns presence,
+ * visibility, text, position and the first matching element for each of them.
+ *
+ * A validation step that used to issue findElement, isDisplayed, getRect and getText per locator
+ * now costs one WebDriver round-trip. Locators are translated through {@link By.Remotable}, so
+ * css, xpath, id, name, class name, tag name and link text locators are supported.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class BatchedDomQuery {
+
+    private static final String QUERY_SCRIPT =
+            "var specs = arguments[0], doc = document;" +
+            "function find(using, value) {" +
+            "  if (using === 'css selector') { return Array.prototype.slice.call(doc.querySelectorAll(value)); }" +
+            "  if (using === 'xpath') {" +
+            "    var snap = doc.evaluate(value, doc, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "    for (var i = 0; i < snap.snapshotLength; i++) { out.push(snap.snapshotItem(i)); }" +
+            "    return out;" +
+            "  }" +
+            "  if (using === 'tag name') { return Array.prototype.slice.call(doc.getElementsByTagName(value)); }" +
+            "  if (using === 'link text' || using === 'partial link text') {" +
+            "    return Array.prototype.filter.call(doc.getElementsByTagName('a'), function (a) {" +
+            "      var text = (a.innerText || '').trim();" +
+            "      return using === 'link text' ? text === value : text.indexOf(value) >= 0;" +
+            "    });" +
+            "  }" +
+            "  return [];" +
+            "}" +
+            "function visible(el) {" +
+            "  var rect = el.getBoundingClientRect(), style = (el.ownerDocument.defaultView || window).getComputedStyle(el);" +
+            "  return rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none';" +
+            "}" +
+            "return specs.map(function (spec) {" +
+            "  var els = find(spec[0], spec[1]), first = els[0], visibleCount = 0;" +
+            "  for (var i = 0; i < els.length; i++) { if (visible(els[i])) { visibleCount++; } }" +
+            "  var r = first ? first.getBoundingClientRect() : null;" +
+            "  return {count: els.length, visibleCount: visibleCount, visible: !!first && visible(first)," +
+            "          text: first ? (first.innerText || first.textContent || '').trim() : null," +
+            "          element: first || null," +
+            "          rect: r ? [Math.round(r.left), Math.round(r.top), Math.round(r.width), Math.round(r.height)] : null};" +
+            "});";
+
+    private final WebDriver driver;
+
+    public BatchedDomQuery(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Queries all locators in the current browsing context with one script call.
+     *
+     * @param locators locators to resolve
+     * @return one state per locator, in the same order
+     */
+    public List<ElementState> query(By... locators) {
+        List<List<String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            specs.add(toSpec(locator));
+        }
+        Object raw = ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, specs);
+        List<ElementState> states = new ArrayList<>();
+        for (Object result : (List<?>) raw) {
+            states.add(ElementState.from((Map<?, ?>) result));
+        }
+        return states;
+    }
+
+    /**
+     * Condition for {@link WaitEngine}: true once the element is present, evaluated with one
+     * script call per poll.
+     *
+     * @param locator element locator
+     * @return condition returning the element's state
+     */
+    public static ExpectedCondition<ElementState> presenceOf(By locator) {
+        return new ExpectedCondition<ElementState>() {
+            @Override
+            public ElementState apply(WebDriver driver) {
+                ElementState state = new BatchedDomQuery(driver).query(locator).get(0);
+                return state.isPresent() ? state : null;
+            }
+
+            @Override
+            public String toString() {
+                return "presence of element located by " + locator;
+            }
+        };
+    }
+
+    private static List<String> toSpec(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be batched: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return Arrays.asList(parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    /**
+     * State of one locator at the time of the query.
+     */
+    public static class ElementState {
+        private final int count;
+        private final int visibleCount;
+        private final boolean visible;
+        private final String text;
+        private final WebElement element;
+        private final Rectangle rect;
+
+        ElementState(int count, int visibleCount, boolean visible, String text, WebElement element, Rectangle rect) {
+            this.count = count;
+            this.visibleCount = visibleCount;
+            this.visible = visible;
+            this.text = text;
+            this.element = element;
+            this.rect = rect;
+        }
+
+        static ElementState from(Map<?, ?> map) {
+            Rectangle rect = null;
+            if (map.get("rect") instanceof List) {
+                List<?> r = (List<?>) map.get("rect");
+                // Rectangle takes (x, y, height, width)
+                rect = new Rectangle(asInt(r.get(0)), asInt(r.get(1)), asInt(r.get(3)), asInt(r.get(2)));
+            }
+            Object element = map.get("element");
+            return new ElementState(
+                    asInt(map.get("count")),
+                    asInt(map.get("visibleCount")),
+                    Boolean.TRUE.equals(map.get("visible")),
+                    map.get("text") == null ? null : String.valueOf(map.get("text")),
+                    element instanceof WebElement ? (WebElement) element : null,
+                    rect);
+        }
+
+        private static int asInt(Object value) {
+            return value instanceof Number ? ((Number) value).intValue() : 0;
+        }
+
+        public boolean isPresent() {
+            return count > 0;
+        }
+
+        /**
+         * @return true if the first match is visible
+         */
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return number of visible matches, e.g. 0 when no loading spinner is showing
+         */
+        public int getVisibleCount() {
+            return visibleCount;
+        }
+
+        /**
+         * @return trimmed text of the first match, null if nothing matched
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return first match, null if nothing matched
+         */
+        public WebElement getElement() {
+            return element;
+        }
+
+        /**
+         * @return viewport position and size of the first match, null if nothing matched
+         */
+        public Rectangle getRect() {
+            return rect;
+        }
+    }
+}
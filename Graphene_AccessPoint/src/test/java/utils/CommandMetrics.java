@@ -0,0 +1,210 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CommandMetrics collects WebDriver command counts and latency histograms per scenario and per
+ * site, fed by {@link CommandMetricsListener}.
+ *
+ * The scenario and site are tracked per thread (inherited by the shard worker threads a scenario
+ * starts), so parallel scenarios are kept apart. Each command is recorded both under its scenario
+ * and, while a site is being validated, under "scenario :: site".
+ *
+ * Configuration (global.properties):
+ * metrics.commands.enabled - wrap new browsers with the metrics listener (false)
+ * metrics.commands.file    - JSON report written at the end of the run (target/command-metrics.json)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class CommandMetrics {
+
+    /**
+     * Upper bounds of the latency buckets in milliseconds; the last bucket is unbounded.
+     */
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+    private static final String UNSCOPED = "unscoped";
+
+    private static final InheritableThreadLocal<String> scenario = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<String> site = new InheritableThreadLocal<>();
+    private static final Map<String, Map<String, Histogram>> scopes = new ConcurrentHashMap<>();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final LongAdder commands = new LongAdder();
+    private static final LongAdder commandErrors = new LongAdder();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Checks whether command instrumentation is switched on.
+     *
+     * @return metrics.commands.enabled from global.properties
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("metrics.commands.enabled", false);
+    }
+
+    public static void startScenario(String scenarioName) {
+        scenario.set(scenarioName);
+        site.remove();
+    }
+
+    public static void endScenario() {
+        scenario.remove();
+        site.remove();
+    }
+
+    public static void startSite(String siteName) {
+        site.set(siteName);
+    }
+
+    public static void endSite() {
+        site.remove();
+    }
+
+    /**
+     * Records one command for the current thread's scenario and site.
+     *
+     * @param command command name, e.g. findElement or executeScript
+     * @param nanos command latency
+     * @param failed true if the command threw
+     */
+    public static void record(String command, long nanos, boolean failed) {
+        commands.increment();
+        if (failed) {
+            commandErrors.increment();
+        }
+        String scenarioName = scenario.get() == null ? UNSCOPED : scenario.get();
+        histogram(scenarioName, command).add(nanos, failed);
+        if (site.get() != null) {
+            histogram(scenarioName + " :: " + site.get(), command).add(nanos, failed);
+        }
+    }
+
+    /**
+     * @return commands recorded since the JVM started, across all scenarios
+     */
+    public static long commandCount() {
+        return commands.sum();
+    }
+
+    /**
+     * @return recorded commands that threw
+     */
+    public static long commandErrorCount() {
+        return commandErrors.sum();
+    }
+
+    /**
+     * Builds an HTML table of the scenario's commands for the Extent report, slowest total first.
+     *
+     * @param scenarioName scenario scope
+     * @return HTML summary, or null if nothing was recorded
+     */
+    public static String summaryHtml(String scenarioName) {
+        Map<String, Histogram> commands = scopes.get(scenarioName);
+        if (commands == null || commands.isEmpty()) {
+            return null;
+        }
+        List<Map.Entry<String, Histogram>> rows = new ArrayList<>(commands.entrySet());
+        rows.sort((a, b) -> Long.compare(b.getValue().totalNanos(), a.getValue().totalNanos()));
+        StringBuilder html = new StringBuilder("<b>WebDriver commands</b><table>"
+                + "<tr><th>Command</th><th>Count</th><th>Errors</th><th>Total ms</th><th>Mean ms</th><th>Max ms</th></tr>");
+        for (Map.Entry<String, Histogram> row : rows) {
+            Map<String, Object> stats = row.getValue().snapshot();
+            html.append("<tr><td>").append(row.getKey())
+                    .append("</td><td>").append(stats.get("count"))
+                    .append("</td><td>").append(stats.get("errors"))
+                    .append("</td><td>").append(stats.get("totalMs"))
+                    .append("</td><td>").append(stats.get("meanMs"))
+                    .append("</td><td>").append(stats.get("maxMs"))
+                    .append("</td></tr>");
+        }
+        return html.append("</table>").toString();
+    }
+
+    /**
+     * Writes all scopes with their per-command histograms as JSON.
+     */
+    public static void writeReport() {
+        if (scopes.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("bucketBoundsMs", BUCKET_BOUNDS_MS);
+        Map<String, Map<String, Object>> scopeReport = new TreeMap<>();
+        scopes.forEach((scope, commands) -> {
+            Map<String, Object> commandReport = new TreeMap<>();
+            commands.forEach((command, histogram) -> commandReport.put(command, histogram.snapshot()));
+            scopeReport.put(scope, commandReport);
+        });
+        report.put("scopes", scopeReport);
+
+        File file = new File(ConfigReader.getProperty("metrics.commands.file", "target/command-metrics.json"));
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+            System.out.println("📊 WebDriver command metrics written to " + file.getPath());
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write command metrics: " + e.getMessage());
+        }
+    }
+
+    private static Histogram histogram(String scope, String command) {
+        return scopes.computeIfAbsent(scope, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(command, c -> new Histogram());
+    }
+
+    /**
+     * Latency histogram with fixed millisecond buckets.
+     */
+    static class Histogram {
+        private final long[] buckets = new long[BUCKET_BOUNDS_MS.length + 1];
+        private long count;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void add(long nanos, boolean failed) {
+            count++;
+            if (failed) {
+                errors++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            long millis = nanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && millis > BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        synchronized long totalNanos() {
+            return totalNanos;
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", count);
+            stats.put("errors", errors);
+            stats.put("totalMs", totalNanos / 1_000_000);
+            stats.put("meanMs", count == 0 ? 0 : totalNanos / count / 1_000_000);
+            stats.put("maxMs", maxNanos / 1_000_000);
+            stats.put("buckets", buckets.clone());
+            return stats;
+        }
+    }
+}
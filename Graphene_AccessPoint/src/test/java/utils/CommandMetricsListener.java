@@ -0,0 +1,59 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CommandMetricsListener times every call on a decorated driver and its elements, frames,
+ * navigation and options, and records it in {@link CommandMetrics}.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class CommandMetricsListener implements WebDriverListener {
+
+    // Calls can nest (e.g. a driver call returning a decorated element), so keep a stack per thread
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Wraps a driver with the metrics listener if metrics.commands.enabled is set.
+     *
+     * @param driver driver to wrap
+     * @return the decorated driver, or the original one when instrumentation is off
+     */
+    public static WebDriver decorateIfEnabled(WebDriver driver) {
+        if (!CommandMetrics.isEnabled()) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new CommandMetricsListener()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, true);
+    }
+
+    private void finish(Method method, boolean failed) {
+        Deque<Long> stack = startTimes.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        CommandMetrics.record(method.getName(), System.nanoTime() - stack.pop(), failed);
+    }
+}
@@ -0,0 +1,104 @@
+package utils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * ConfigReader loads global.properties once and exposes typed lookups.
+ * A JVM system property with the same key (e.g. -Dparallel.workers=4) overrides the file value,
+ * so runs can be tuned from the Maven command line without editing the file.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class ConfigReader {
+
+    private static final String PROPERTIES_PATH = System.getProperty("user.dir") + "//src//test//java//resources//global.properties";
+    private static volatile Properties properties;
+
+    /**
+     * Returns the loaded properties, reading global.properties on first use.
+     *
+     * @return global properties
+     */
+    public static Properties getProperties() {
+        if (properties == null) {
+            synchronized (ConfigReader.class) {
+                if (properties == null) {
+                    Properties loaded = new Properties();
+                    try (FileInputStream fileInputStream = new FileInputStream(PROPERTIES_PATH)) {
+                        loaded.load(fileInputStream);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not read " + PROPERTIES_PATH, e);
+                    }
+                    properties = loaded;
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Gets a property value, preferring a JVM system property over global.properties.
+     *
+     * @param key property name
+     * @return property value or null if not set
+     */
+    public static String getProperty(String key) {
+        String override = System.getProperty(key);
+        if (override != null && !override.isBlank()) {
+            return override.trim();
+        }
+        String value = getProperties().getProperty(key);
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Gets a property value with a fallback.
+     *
+     * @param key property name
+     * @param defaultValue value returned when the property is not set
+     * @return property value or defaultValue
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    /**
+     * Gets an integer property with a fallback. Unparseable values fall back to the default.
+     *
+     * @param key property name
+     * @param defaultValue value returned when the property is not set or invalid
+     * @return integer value
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.out.println("⚠️ Invalid integer for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Gets a boolean property with a fallback.
+     *
+     * @param key property name
+     * @param defaultValue value returned when the property is not set
+     * @return boolean value
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,184 @@
+package utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.By;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DashboardSpec describes how one application's dashboard is validated: the tabs to open, the
+ * container each tab must render and an optional load budget. Specs are declared in
+ * dashboards.json, so a new dashboard needs an entry there instead of its own page object.
+ *
+ * Applications without a spec are validated on their landing container only.
+ *
+ * Configuration (global.properties):
+ * dashboards.spec.file - spec file (src/test/java/resources/dashboards.json)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DashboardSpec {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static volatile Map<String, DashboardSpec> specs;
+
+    private String name;
+    private String container;
+    private Integer budgetSeconds;
+    private List<Tab> tabs = new ArrayList<>();
+
+    /**
+     * Gets the spec of an application.
+     *
+     * @param name application name as used in the feature data tables
+     * @return the declared spec, or a landing-only spec if the application is not declared
+     */
+    public static DashboardSpec forApplication(String name) {
+        DashboardSpec spec = all().get(name == null ? null : name.trim());
+        if (spec == null) {
+            spec = new DashboardSpec();
+            spec.name = name;
+        }
+        return spec;
+    }
+
+    private static Map<String, DashboardSpec> all() {
+        if (specs == null) {
+            synchronized (DashboardSpec.class) {
+                if (specs == null) {
+                    specs = load();
+                }
+            }
+        }
+        return specs;
+    }
+
+    private static Map<String, DashboardSpec> load() {
+        String path = ConfigReader.getProperty("dashboards.spec.file", "src/test/java/resources/dashboards.json");
+        File file = new File(path).isAbsolute() ? new File(path) : new File(System.getProperty("user.dir"), path);
+        Map<String, DashboardSpec> loaded = new HashMap<>();
+        if (!file.exists()) {
+            System.out.println("⚠️ Dashboard spec file not found, validating landing containers only: " + file.getPath());
+            return loaded;
+        }
+        try {
+            SpecFile specFile = objectMapper.readValue(file, SpecFile.class);
+            Defaults defaults = specFile.defaults == null ? new Defaults() : specFile.defaults;
+            for (DashboardSpec spec : specFile.dashboards) {
+                if (spec.container == null) {
+                    spec.container = defaults.container;
+                }
+                for (Tab tab : spec.tabs) {
+                    if (tab.xpath == null && defaults.tabTemplate != null) {
+                        tab.xpath = String.format(defaults.tabTemplate, tab.label);
+                    }
+                    if (tab.container == null) {
+                        tab.container = spec.container;
+                    }
+                }
+                loaded.put(spec.name.trim(), spec);
+            }
+            System.out.println("Loaded " + loaded.size() + " dashboard specs from " + file.getName());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read dashboard specs from " + file.getPath(), e);
+        }
+        return loaded;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return landing container XPath, null to use the portal default
+     */
+    public String getContainer() {
+        return container;
+    }
+
+    /**
+     * Gets the declared load budget.
+     *
+     * @param fallback budget to use when none is declared
+     * @return declared budget or the fallback
+     */
+    public Duration budgetOr(Duration fallback) {
+        return budgetSeconds == null ? fallback : Duration.ofSeconds(budgetSeconds);
+    }
+
+    public List<Tab> getTabs() {
+        return Collections.unmodifiableList(tabs);
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setContainer(String container) {
+        this.container = container;
+    }
+
+    public void setBudgetSeconds(Integer budgetSeconds) {
+        this.budgetSeconds = budgetSeconds;
+    }
+
+    public void setTabs(List<Tab> tabs) {
+        this.tabs = tabs == null ? new ArrayList<>() : tabs;
+    }
+
+    /**
+     * One dashboard tab: the tab to click inside the dashboard frame and the container it must render.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Tab {
+        private String label;
+        private String xpath;
+        private String container;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public By getLocator() {
+            return By.xpath(xpath);
+        }
+
+        public void setXpath(String xpath) {
+            this.xpath = xpath;
+        }
+
+        public String getContainer() {
+            return container;
+        }
+
+        public void setContainer(String container) {
+            this.container = container;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class SpecFile {
+        public Defaults defaults;
+        public List<DashboardSpec> dashboards = new ArrayList<>();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Defaults {
+        public String container;
+        public String tabTemplate;
+    }
+}
@@ -0,0 +1,99 @@
+package utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DashboardUrlResolver remembers the dashboard URL of each application so validation can open it
+ * with driver.get instead of searching, clicking the tile and returning through the home icon.
+ *
+ * A URL is learned the first time an application is opened through its tile and is shared by all
+ * scenarios and browsers of the run. It is also stored in the {@link ApplicationCatalog}, so later
+ * runs can open the dashboard directly from the start. Scenarios tagged @NavigationSmoke always use
+ * the search/home round-trip, so that path keeps being exercised.
+ *
+ * Configuration (global.properties):
+ * navigation.mode - deeplink or search (search)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class DashboardUrlResolver {
+
+    private static final Map<String, String> dashboardUrls = new ConcurrentHashMap<>();
+    // Inherited by shard worker threads started from the scenario thread
+    private static final InheritableThreadLocal<Boolean> searchForced = new InheritableThreadLocal<>();
+
+    private DashboardUrlResolver() {
+    }
+
+    /**
+     * Checks whether dashboards should be opened by URL on the current thread.
+     *
+     * @return true in deeplink mode, unless the running scenario forces search navigation
+     */
+    public static boolean isDeepLinkMode() {
+        if (Boolean.TRUE.equals(searchForced.get())) {
+            return false;
+        }
+        return "deeplink".equalsIgnoreCase(ConfigReader.getProperty("navigation.mode", "search"));
+    }
+
+    /**
+     * Makes the current scenario use search/tile/home navigation regardless of navigation.mode.
+     *
+     * @param forced true to force search navigation, false to go back to the configured mode
+     */
+    public static void forceSearchNavigation(boolean forced) {
+        if (forced) {
+            searchForced.set(true);
+        } else {
+            searchForced.remove();
+        }
+    }
+
+    /**
+     * Gets the known dashboard URL of an application.
+     *
+     * @param appName application name as shown on its tile
+     * @return dashboard URL, or null if it has not been resolved yet
+     */
+    public static String resolve(String appName) {
+        String url = dashboardUrls.get(appName);
+        if (url != null) {
+            return url;
+        }
+        // Fall back to the persisted catalog, so deep links also work on the first visit of a run
+        ApplicationCatalog.Entry entry = ApplicationCatalog.getInstance().get(appName);
+        if (entry != null && entry.getTargetUrl() != null && !Boolean.TRUE.equals(entry.getNewWindow())) {
+            return entry.getTargetUrl();
+        }
+        return null;
+    }
+
+    /**
+     * Stores the dashboard URL observed after opening an application through its tile. A URL equal
+     * to the one before the tile click is ignored: the portal showed the dashboard without
+     * navigating, so opening that URL would only land on the Applications page.
+     *
+     * @param appName application name as shown on its tile
+     * @param url URL of the opened dashboard
+     * @param applicationsUrl URL of the Applications page the tile was clicked on
+     */
+    public static void remember(String appName, String url, String applicationsUrl) {
+        if (appName != null && url != null && url.startsWith("http") && !url.equals(applicationsUrl)) {
+            dashboardUrls.put(appName, url);
+            ApplicationCatalog.getInstance().learnTarget(appName, url, false);
+        }
+    }
+
+    /**
+     * Drops a URL that no longer leads to the dashboard, so the next attempt goes through the tile.
+     *
+     * @param appName application name as shown on its tile
+     */
+    public static void forget(String appName) {
+        dashboardUrls.remove(appName);
+        ApplicationCatalog.getInstance().forgetTarget(appName);
+    }
+}
@@ -0,0 +1,320 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import stepDefinitions.Hooks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static pageObject.BasePage.containerLayout;
+import static pageObject.BasePage.dashBoardCompanyName;
+import static pageObject.BasePage.hidenFrame;
+import static pageObject.BasePage.hidenFrameCss;
+import static pageObject.BasePage.homeIcon;
+import static pageObject.BasePage.searchApplication;
+import static pageObject.BasePage.tileXpathTemplate;
+
+/**
+ * DashboardValidator is the single validation path for every application: open the dashboard,
+ * check the header and the landing container, then open each tab declared in the application's
+ * {@link DashboardSpec} and wait for its container to render.
+ *
+ * Dashboards are opened by deep link when the URL is known ({@link DashboardUrlResolver}),
+ * otherwise through search and tile. Waits use the spec's budget or the budget learned by
+ * {@link LoadTimeStatistics}; tab renders are awaited with one in-browser script per tab
+ * ({@link RenderCompletionWaiter}). With dashboard.shards greater than 1 the sites are split
+ * across several browsers ({@link ShardedSiteValidator}).
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class DashboardValidator {
+
+    private static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(20);
+
+    private final WebDriver driver;
+    private final WaitEngine waits;
+    private final FrameContext frames;
+
+    public DashboardValidator(WebDriver driver) {
+        this.driver = driver;
+        this.waits = new WaitEngine(driver, DEFAULT_LOAD_TIMEOUT);
+        this.frames = FrameContext.of(driver);
+    }
+
+    /**
+     * Validates every site and logs the per-site outcome to the scenario report.
+     * Results are always returned in input order.
+     *
+     * @param siteNames application names from the feature data table
+     * @param includeTabs true to also open the tabs declared in each application's spec
+     * @return one result per site, in the same order as siteNames
+     */
+    public List<SiteValidationResult> validateAll(List<String> siteNames, boolean includeTabs) {
+        List<SiteValidationResult> results = new ArrayList<>();
+        if (siteNames == null || siteNames.isEmpty()) {
+            return results;
+        }
+
+        int shards = ShardedSiteValidator.configuredShards();
+        if (shards > 1 && siteNames.size() > 1) {
+            results = new ShardedSiteValidator(shards).validate(siteNames, driver, includeTabs);
+            results.forEach(DashboardValidator::report);
+            return results;
+        }
+
+        for (String siteName : siteNames) {
+            SiteValidationResult result = validateSite(siteName, includeTabs);
+            report(result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Writes a site's collected messages to the report of the scenario running on this thread,
+     * each screenshot right after the message it was taken with.
+     *
+     * @param result validation result to report
+     */
+    public static void report(SiteValidationResult result) {
+        List<String> messages = result.getMessages();
+        List<SiteValidationResult.Screenshot> screenshots = result.getScreenshots();
+        int next = 0;
+        for (int i = 0; i <= messages.size(); i++) {
+            while (next < screenshots.size() && screenshots.get(next).getAfterMessages() <= i) {
+                SiteValidationResult.Screenshot screenshot = screenshots.get(next++);
+                Hooks.addScreenshot(screenshot.getPath(), screenshot.getTitle());
+            }
+            if (i < messages.size()) {
+                Hooks.logInfo(messages.get(i));
+            }
+        }
+    }
+
+    /**
+     * Validates a single application and returns to the Applications tab (search mode) or leaves
+     * the dashboard for the next deep link. Messages are collected on the result rather than logged,
+     * so this can run on a worker thread.
+     *
+     * @param siteName application name
+     * @param includeTabs true to also open the tabs declared in the application's spec
+     * @return validation result for the site
+     */
+    public SiteValidationResult validateSite(String siteName, boolean includeTabs) {
+        SiteValidationResult result = new SiteValidationResult(siteName);
+        DashboardSpec spec = DashboardSpec.forApplication(siteName);
+        long start = System.currentTimeMillis();
+        CommandMetrics.startSite(siteName);
+        System.out.println("Starting validation for application: " + siteName + " on " + Thread.currentThread().getName());
+
+        boolean deepLink = DashboardUrlResolver.isDeepLinkMode();
+        String dashboardUrl = deepLink ? DashboardUrlResolver.resolve(siteName) : null;
+        // Declared budget, else the one learned from this dashboard's own load history
+        Duration budget = spec.budgetOr(LoadTimeStatistics.getInstance().budget(siteName, DEFAULT_LOAD_TIMEOUT));
+        boolean loading = false;
+        String applicationsUrl = null;
+        try {
+            long openedAt;
+            if (dashboardUrl != null) {
+                // Deep link: open the dashboard directly, skipping search, tile and home
+                frames.toTop(driver);
+                openedAt = System.currentTimeMillis();
+                loading = true;
+                driver.get(dashboardUrl);
+                result.time("navigate", System.currentTimeMillis() - openedAt);
+            } else {
+                if (deepLink) {
+                    // The previous site may have been opened by URL and left on its dashboard
+                    returnToApplications();
+                }
+
+                // Step 1: Search for the site
+                long searchStart = System.currentTimeMillis();
+                WebElement searchField = waits.until(ExpectedConditions.elementToBeClickable(searchApplication));
+                searchField.clear();
+                searchField.sendKeys(siteName);
+
+                // Step 2: Click on the site link once the filtered tile has settled
+                WebElement siteTile = waits.until(WaitConditions.elementStable(tileLocator(siteName)));
+                openedAt = System.currentTimeMillis();
+                result.time("search", openedAt - searchStart);
+                loading = true;
+                applicationsUrl = driver.getCurrentUrl();
+                siteTile.click();
+            }
+
+            // Wait for the dashboard to load
+            waits.until(ExpectedConditions.numberOfWindowsToBe(1), budget);
+            waits.until(WaitConditions.networkIdle(), budget);
+            long mark = System.currentTimeMillis();
+            if (dashboardUrl == null) {
+                result.time("tileClick", mark - openedAt);
+            }
+
+            // Step 3: Validate the header
+            String headerXpath = String.format(dashBoardCompanyName, siteName);
+            // Presence and text of the header in one round-trip
+            String headerText = waits.until(BatchedDomQuery.presenceOf(By.xpath(headerXpath)), budget).getText();
+            result.time("header", System.currentTimeMillis() - mark);
+
+            if (!headerText.contains(siteName)) {
+                result.fail("Validation FAILED - Expected: " + siteName + ", Actual: " + headerText);
+            } else {
+                result.info("Validation PASSED - Header matches application name: " + siteName);
+                if (deepLink && dashboardUrl == null) {
+                    DashboardUrlResolver.remember(siteName, driver.getCurrentUrl(), applicationsUrl);
+                }
+            }
+
+            // Step 4: Validate Dashboard is loaded
+            String container = spec.getContainer() == null ? containerLayout : spec.getContainer();
+            mark = System.currentTimeMillis();
+            waits.until(WaitConditions.frameReady(hidenFrame), budget);
+            result.time("frameReady", System.currentTimeMillis() - mark);
+            frames.adopt(driver, hidenFrame);
+            mark = System.currentTimeMillis();
+            waits.until(WaitConditions.dashboardReady(By.xpath(container)), budget);
+            result.time("container", System.currentTimeMillis() - mark);
+            long loadMillis = System.currentTimeMillis() - openedAt;
+            loading = false;
+            LoadTimeStatistics.getInstance().record(siteName, loadMillis);
+            LoadHistoryStore.recordIfEnabled(siteName, loadMillis);
+            MetricsEndpoint.observeDashboardLoad(siteName, null, loadMillis);
+
+            boolean isDashboardLoaded = new BatchedDomQuery(driver).query(By.xpath(container)).get(0).isVisible();
+
+            if (!isDashboardLoaded) {
+                result.fail("Dashboard NOT loaded properly for: " + siteName);
+            } else {
+                result.info("Dashboard loaded successfully for: " + siteName);
+            }
+            result.screenshot(siteName, ScreenshotService.captureIfEnabled(driver, hidenFrameCss));
+
+            // Step 5: Open each declared tab and wait for its container to render
+            if (includeTabs) {
+                validateTabs(spec, result);
+            }
+
+            // Step 6: Return to parent frame and click home icon (the next deep link navigates directly)
+            frames.toTop(driver);
+            if (!deepLink) {
+                WebElement homeIcons = waits.until(ExpectedConditions.elementToBeClickable(homeIcon));
+                homeIcons.click();
+
+                // Wait to return to appMain tab
+                waits.until(WaitConditions.elementStable(searchApplication));
+            }
+
+        } catch (Exception e) {
+            result.fail("ERROR processing application: " + siteName + " - " + e.getMessage());
+            e.printStackTrace();
+            if (loading) {
+                // The dashboard was opened but never finished loading; record it at the default timeout so a
+                // budget that is too small grows again, without ratcheting up on every failure
+                LoadTimeStatistics.getInstance().recordFailure(siteName, DEFAULT_LOAD_TIMEOUT);
+                LoadHistoryStore.recordIfEnabled(siteName, budget.toMillis());
+            }
+            if (dashboardUrl != null) {
+                DashboardUrlResolver.forget(siteName);
+            }
+
+            // Recovery attempt
+            try {
+                driver.switchTo().defaultContent();
+                frames.reset();
+                WebElement homeIcons = driver.findElement(homeIcon);
+                homeIcons.click();
+                waits.untilOrNull(ExpectedConditions.presenceOfElementLocated(searchApplication), Duration.ofSeconds(10));
+            } catch (Exception recoveryEx) {
+                result.info("Recovery FAILED for: " + siteName + " - " + recoveryEx.getMessage());
+                recoveryEx.printStackTrace();
+            }
+        } finally {
+            CommandMetrics.endSite();
+            result.setDurationMillis(System.currentTimeMillis() - start);
+            SiteResultsWriter.appendIfEnabled(result);
+        }
+        return result;
+    }
+
+    /**
+     * Clicks each tab inside the dashboard frame and waits for its container with one render script.
+     * The driver stays in the frame for the whole walk; it is only switched again if the frame was replaced.
+     * A tab that does not render is recorded as a failure and the remaining tabs are still checked.
+     */
+    private void validateTabs(DashboardSpec spec, SiteValidationResult result) {
+        for (DashboardSpec.Tab tab : spec.getTabs()) {
+            String key = spec.getName() + " / " + tab.getLabel();
+            Duration budget = spec.budgetOr(LoadTimeStatistics.getInstance().budget(key, DEFAULT_LOAD_TIMEOUT));
+            try {
+                long clickedAt = System.currentTimeMillis();
+                frames.inDashboardFrame(driver, () -> waits.until(ExpectedConditions.elementToBeClickable(tab.getLocator()), budget)).click();
+                RenderCompletionWaiter.RenderResult render =
+                        new RenderCompletionWaiter(driver, budget).awaitRenderInFrame(hidenFrame, tab.getContainer());
+                long tabMillis = System.currentTimeMillis() - clickedAt;
+                LoadTimeStatistics.getInstance().record(key, tabMillis);
+                LoadHistoryStore.recordIfEnabled(key, tabMillis);
+                MetricsEndpoint.observeDashboardLoad(spec.getName(), tab.getLabel(), tabMillis);
+                result.timeTab(tab.getLabel(), tabMillis);
+                result.info(tab.getLabel() + " tab loaded properly for: " + spec.getName() + " - " + render);
+                result.screenshot(key, ScreenshotService.captureIfEnabled(driver, hidenFrameCss));
+            } catch (Exception e) {
+                LoadTimeStatistics.getInstance().recordFailure(key, DEFAULT_LOAD_TIMEOUT);
+                LoadHistoryStore.recordIfEnabled(key, budget.toMillis());
+                result.fail(tab.getLabel() + " tab NOT loaded for: " + spec.getName() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Goes back to the Applications tab through the home icon unless the search field is already shown.
+     */
+    private void returnToApplications() {
+        if (new BatchedDomQuery(driver).query(searchApplication).get(0).isVisible()) {
+            return;
+        }
+        frames.toTop(driver);
+        waits.until(ExpectedConditions.elementToBeClickable(homeIcon)).click();
+        waits.until(WaitConditions.elementStable(searchApplication));
+    }
+
+    /**
+     * Locates an application's tile by the id or data-id recorded in the catalog, falling back to a
+     * text search when no tile carries that id any more.
+     *
+     * @param siteName application name
+     * @return tile locator
+     */
+    public static By tileLocator(String siteName) {
+        return tileLocator(siteName, ApplicationCatalog.getInstance().get(siteName));
+    }
+
+    /**
+     * Builds the tile locator as a single XPath, so it can also be resolved by {@link BatchedDomQuery}:
+     * the tile with the catalogued id, or the text match only while no element has that id.
+     */
+    static By tileLocator(String siteName, ApplicationCatalog.Entry entry) {
+        String byText = String.format(tileXpathTemplate, siteName);
+        if (entry == null || entry.getTileId() == null || entry.getTileId().isEmpty()) {
+            return By.xpath(byText);
+        }
+        String attribute = entry.getTileIdAttribute() != null ? entry.getTileIdAttribute() : "id";
+        String byId = "//*[@" + attribute + "=" + xpathLiteral(entry.getTileId()) + "]";
+        return By.xpath(byId + " | " + byText + "[not(" + byId + ")]");
+    }
+
+    private static String xpathLiteral(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
@@ -5,16 +5,20 @@ import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 public class ExtentReportManager {
-    private static ExtentReports extent;
+    private static volatile ExtentReports extent;
 
     public static ExtentReports getInstance() {
         if (extent == null) {
-            createInstance("test-output/extent-report.html");
+            synchronized (ExtentReportManager.class) {
+                if (extent == null) {
+                    createInstance("test-output/extent-report.html");
+                }
+            }
         }
         return extent;
     }
 
-    public static ExtentReports createInstance(String fileName) {
+    public static synchronized ExtentReports createInstance(String fileName) {
         ExtentSparkReporter htmlReporter = new ExtentSparkReporter(fileName);
 
         htmlReporter.config().setTheme(Theme.STANDARD);
@@ -22,8 +26,10 @@ public class ExtentReportManager {
         htmlReporter.config().setReportName("BDD Test Report");
         htmlReporter.config().setTimeStampFormat("EEEE, MMMM dd, yyyy, hh:mm a '('zzz')'");
 
-        extent = new ExtentReports();
-        extent.attachReporter(htmlReporter);
+        // Publish only a fully configured instance; getInstance() reads it without locking
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(htmlReporter);
+        extent = reports;
 
         return extent;
     }
@@ -0,0 +1,163 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import pageObject.BasePage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * FrameContext tracks which frame a driver is switched into, so walking the tabs of a dashboard
+ * does not leave and re-enter the dashboard iframe after every click.
+ *
+ * Entering a frame stamps a token on the frame's window. The next enter checks that token with one
+ * script call: when it still matches, the driver is already in the same frame document and no
+ * switch is made. When the iframe was replaced or reloaded (stale iframe element, detached frame,
+ * new document) the token is gone and the frame is switched into again.
+ *
+ * Code that switches frames on its own should call {@link #adopt(WebDriver, By)} or {@link #reset()} afterwards.
+ *
+ * Contexts are kept per driver with weak keys and hold no reference back to their driver, so a
+ * context goes away with the driver it tracks.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class FrameContext {
+
+    private static final Map<WebDriver, FrameContext> contexts = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong tokenCounter = new AtomicLong();
+    private static final String STAMP_SCRIPT = "window.__frameContextToken = arguments[0];";
+    private static final String TOKEN_SCRIPT = "return window.__frameContextToken || null;";
+
+    private By currentFrame;
+    private String token;
+    private long switches;
+    private long skipped;
+
+    private FrameContext() {
+    }
+
+    /**
+     * Gets the frame tracker of a driver, creating it on first use.
+     *
+     * @param driver driver to track
+     * @return the driver's frame context
+     */
+    public static FrameContext of(WebDriver driver) {
+        return contexts.computeIfAbsent(driver, key -> new FrameContext());
+    }
+
+    /**
+     * Runs an action inside the dashboard iframe, switching into it only if the driver is not
+     * already there. The driver stays in the frame afterwards; call {@link #toTop(WebDriver)} to leave.
+     *
+     * @param driver driver this context tracks
+     * @param action action to run inside the frame
+     * @return the action's result
+     */
+    public <T> T inDashboardFrame(WebDriver driver, Supplier<T> action) {
+        return inFrame(driver, BasePage.hidenFrame, action);
+    }
+
+    /**
+     * Runs an action inside a top-level frame, switching into it only if needed.
+     *
+     * @param driver driver this context tracks
+     * @param frame locator of the iframe in the top-level document
+     * @param action action to run inside the frame
+     * @return the action's result
+     */
+    public <T> T inFrame(WebDriver driver, By frame, Supplier<T> action) {
+        enter(driver, frame);
+        return action.get();
+    }
+
+    /**
+     * Makes sure the driver is inside the given top-level frame.
+     *
+     * @param driver driver this context tracks
+     * @param frame locator of the iframe in the top-level document
+     */
+    public void enter(WebDriver driver, By frame) {
+        if (frame.equals(currentFrame) && isStillInFrame(driver)) {
+            skipped++;
+            return;
+        }
+        driver.switchTo().defaultContent();
+        driver.switchTo().frame(driver.findElement(frame));
+        switches++;
+        adopt(driver, frame);
+    }
+
+    /**
+     * Records that the driver has been switched into a frame by other code (e.g. a frameReady wait).
+     *
+     * @param driver driver this context tracks
+     * @param frame locator of the frame the driver is now in
+     */
+    public void adopt(WebDriver driver, By frame) {
+        token = Long.toString(tokenCounter.incrementAndGet());
+        ((JavascriptExecutor) driver).executeScript(STAMP_SCRIPT, token);
+        currentFrame = frame;
+    }
+
+    /**
+     * Switches back to the top-level document unless the driver is already there.
+     *
+     * @param driver driver this context tracks
+     */
+    public void toTop(WebDriver driver) {
+        if (currentFrame == null) {
+            skipped++;
+            return;
+        }
+        driver.switchTo().defaultContent();
+        switches++;
+        reset();
+    }
+
+    /**
+     * Forgets the tracked frame, e.g. after code switched to the top-level document on its own.
+     */
+    public void reset() {
+        currentFrame = null;
+        token = null;
+    }
+
+    /**
+     * @return true if the driver was switched into a frame through this context and has not left it
+     */
+    public boolean isInFrame() {
+        return currentFrame != null;
+    }
+
+    /**
+     * @return number of frame switches made through this context
+     */
+    public long getSwitchCount() {
+        return switches;
+    }
+
+    /**
+     * @return number of switches avoided because the driver was already in the right frame
+     */
+    public long getSkippedCount() {
+        return skipped;
+    }
+
+    private boolean isStillInFrame(WebDriver driver) {
+        try {
+            return token != null && token.equals(((JavascriptExecutor) driver).executeScript(TOKEN_SCRIPT));
+        } catch (WebDriverException e) {
+            // Frame detached or replaced while we were inside it
+            return false;
+        }
+    }
+}
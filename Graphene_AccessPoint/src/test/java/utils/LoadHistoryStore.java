@@ -0,0 +1,334 @@
+package utils;
+
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * LoadHistoryStore keeps the dashboard and tab load times of every run and flags dashboards that
+ * got slower than their recent history.
+ *
+ * History is kept per environment in one JSON Lines file named after the Testurl host, one line
+ * per run: {"run", "ts", "samples": {"Cipla": [ms, ...], "Cipla / Summary": [ms, ...]}}. Keys are
+ * the ones {@link LoadTimeStatistics} uses. Runs are appended under a lock file, so parallel runs can
+ * share the directory; once the retention is reached the file is rewritten atomically without the oldest run.
+ *
+ * At the end of a run each key's p50 and p95 are compared with the pooled samples of the previous
+ * runs (the rolling baseline). Failed loads are recorded at their budget, so a dashboard that stopped
+ * loading shows up as a regression rather than disappearing from the comparison. A key regresses when a percentile is more than the configured
+ * percentage and minimum delta above the baseline. Regressions are listed in the Extent report and
+ * can fail the run.
+ *
+ * Configuration (global.properties):
+ * load.history.enabled              - keep history and compare runs (false)
+ * load.history.dir                  - history directory (test-output/load-history)
+ * load.history.max.runs             - runs kept per environment (500)
+ * load.history.baseline.runs        - previous runs forming the baseline (10)
+ * load.history.min.samples          - baseline samples needed before a key is compared (5)
+ * load.history.regression.pct       - allowed slowdown of p50/p95 in percent (25)
+ * load.history.regression.min.ms    - slowdowns below this are ignored as noise (250)
+ * load.history.fail.on.regression   - fail the run when anything regressed (false)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class LoadHistoryStore {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static volatile LoadHistoryStore instance;
+
+    private final Path file;
+    private final int maxRuns;
+    private final int baselineRuns;
+    private final int minSamples;
+    private final int regressionPercent;
+    private final long minDeltaMillis;
+    private final String runId = Instant.now().toString();
+    private final Map<String, List<Long>> current = new TreeMap<>();
+    private List<Regression> regressions;
+
+    LoadHistoryStore(Path file, int maxRuns, int baselineRuns, int minSamples, int regressionPercent, long minDeltaMillis) {
+        this.file = file;
+        this.maxRuns = maxRuns;
+        this.baselineRuns = baselineRuns;
+        this.minSamples = minSamples;
+        this.regressionPercent = regressionPercent;
+        this.minDeltaMillis = minDeltaMillis;
+    }
+
+    /**
+     * Checks whether load history is kept.
+     *
+     * @return load.history.enabled from global.properties
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("load.history.enabled", false);
+    }
+
+    public static LoadHistoryStore getInstance() {
+        if (instance == null) {
+            synchronized (LoadHistoryStore.class) {
+                if (instance == null) {
+                    String dir = ConfigReader.getProperty("load.history.dir", "test-output/load-history");
+                    File directory = new File(dir).isAbsolute() ? new File(dir) : new File(System.getProperty("user.dir"), dir);
+                    instance = new LoadHistoryStore(
+                            directory.toPath().resolve(environmentOf(ConfigReader.getProperty("Testurl")) + ".jsonl"),
+                            ConfigReader.getInt("load.history.max.runs", 500),
+                            ConfigReader.getInt("load.history.baseline.runs", 10),
+                            ConfigReader.getInt("load.history.min.samples", 5),
+                            ConfigReader.getInt("load.history.regression.pct", 25),
+                            ConfigReader.getInt("load.history.regression.min.ms", 250));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Records a load time of this run if history is enabled. A dashboard or tab that failed to load
+     * is recorded at its budget, so failures push the percentiles up instead of dropping out.
+     *
+     * @param key application name, or "application / tab"
+     * @param millis observed load time, or the budget of a failed load
+     */
+    public static void recordIfEnabled(String key, long millis) {
+        if (isEnabled()) {
+            getInstance().record(key, millis);
+        }
+    }
+
+    /**
+     * Compares this run with the baseline, appends it to the history and reports regressions in
+     * the Extent report. Later calls return the first result without recording the run again.
+     *
+     * @return regressions found, empty when history is disabled or nothing regressed
+     */
+    public static List<Regression> finishRunIfEnabled() {
+        if (!isEnabled()) {
+            return Collections.emptyList();
+        }
+        return getInstance().finishRun();
+    }
+
+    /**
+     * Fails the run when something regressed and load.history.fail.on.regression is set.
+     *
+     * @throws AssertionError listing the regressions
+     */
+    public static void failOnRegressionIfConfigured() {
+        if (!isEnabled() || !ConfigReader.getBoolean("load.history.fail.on.regression", false)) {
+            return;
+        }
+        List<Regression> found = getInstance().finishRun();
+        if (!found.isEmpty()) {
+            throw new AssertionError(found.size() + " dashboard load time regression(s): " + found);
+        }
+    }
+
+    public synchronized void record(String key, long millis) {
+        if (key != null && millis >= 0) {
+            current.computeIfAbsent(key, k -> new ArrayList<>()).add(millis);
+        }
+    }
+
+    /**
+     * Compares this run with the baseline and appends it to the history, once.
+     *
+     * @return regressions found
+     */
+    public synchronized List<Regression> finishRun() {
+        if (regressions != null) {
+            return regressions;
+        }
+        regressions = new ArrayList<>();
+        if (current.isEmpty()) {
+            return regressions;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel lock = FileChannel.open(file.resolveSibling(file.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock fileLock = lock.lock();
+                try {
+                    List<String> runs = Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : new ArrayList<>();
+                    runs.removeIf(String::isBlank);
+                    regressions.addAll(compare(baseline(runs)));
+                    String line = objectMapper.writeValueAsString(toLine());
+                    if (runs.size() < maxRuns) {
+                        append(line);
+                    } else {
+                        runs.add(line);
+                        rewrite(runs.subList(runs.size() - maxRuns, runs.size()));
+                    }
+                } finally {
+                    fileLock.release();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not update load history " + file + ": " + e.getMessage());
+        }
+        report();
+        return regressions;
+    }
+
+    /**
+     * Pools the samples of the last baseline runs per key. Lines that do not parse (e.g. cut short
+     * by a crash) are skipped and do not count as a baseline run.
+     */
+    private Map<String, List<Long>> baseline(List<String> runs) {
+        Map<String, List<Long>> pooled = new TreeMap<>();
+        int used = 0;
+        for (int i = runs.size() - 1; i >= 0 && used < baselineRuns; i--) {
+            JsonNode samples;
+            try {
+                samples = objectMapper.readTree(runs.get(i)).path("samples");
+            } catch (IOException e) {
+                System.out.println("⚠️ Skipping unreadable run in load history " + file);
+                continue;
+            }
+            used++;
+            samples.fields().forEachRemaining(entry -> {
+                List<Long> values = pooled.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+                entry.getValue().forEach(value -> values.add(value.asLong()));
+            });
+        }
+        return pooled;
+    }
+
+    private List<Regression> compare(Map<String, List<Long>> baseline) {
+        List<Regression> found = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> entry : current.entrySet()) {
+            List<Long> history = baseline.get(entry.getKey());
+            if (history == null || history.size() < minSamples) {
+                continue;
+            }
+            for (int percentile : new int[]{50, 95}) {
+                long before = LoadTimeStatistics.percentile(history, percentile);
+                long now = LoadTimeStatistics.percentile(entry.getValue(), percentile);
+                if (now - before >= minDeltaMillis && now > before + before * regressionPercent / 100) {
+                    found.add(new Regression(entry.getKey(), percentile, before, now));
+                }
+            }
+        }
+        return found;
+    }
+
+    private ObjectNode toLine() {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("run", runId);
+        line.put("ts", Instant.now().toString());
+        ObjectNode samples = line.putObject("samples");
+        current.forEach((key, values) -> {
+            ArrayNode array = samples.putArray(key);
+            values.forEach(array::add);
+        });
+        return line;
+    }
+
+    private void report() {
+        if (regressions.isEmpty()) {
+            ReportPipeline.addSummary("Load time history", Status.PASS,
+                    List.of("No p50/p95 regressions over " + regressionPercent + "% against the last " + baselineRuns + " runs ("
+                            + current.size() + " dashboards and tabs)"));
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        for (Regression regression : regressions) {
+            System.out.println("⚠️ Load time regression: " + regression);
+            lines.add(regression.toString());
+        }
+        ReportPipeline.addSummary("Load time history", Status.WARNING, lines);
+    }
+
+    private void append(String line) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Replaces the history with the retained runs through a temp file, so a crash keeps the old file.
+     */
+    private void rewrite(List<String> runs) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, runs, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String environmentOf(String url) {
+        String host = url == null || url.isEmpty() ? null : URI.create(url.trim()).getHost();
+        return host == null ? "default" : host.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * A dashboard or tab whose p50 or p95 got slower than its baseline.
+     */
+    public static class Regression {
+        private final String key;
+        private final int percentile;
+        private final long baselineMillis;
+        private final long currentMillis;
+
+        Regression(String key, int percentile, long baselineMillis, long currentMillis) {
+            this.key = key;
+            this.percentile = percentile;
+            this.baselineMillis = baselineMillis;
+            this.currentMillis = currentMillis;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getPercentile() {
+            return percentile;
+        }
+
+        public long getBaselineMillis() {
+            return baselineMillis;
+        }
+
+        public long getCurrentMillis() {
+            return currentMillis;
+        }
+
+        @Override
+        public String toString() {
+            long percent = baselineMillis == 0 ? 0 : (currentMillis - baselineMillis) * 100 / baselineMillis;
+            return key + " p" + percentile + " " + baselineMillis + " ms -> " + currentMillis + " ms (+" + percent + "%)";
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * LoadHistoryStoreTest - Checks the p50/p95 comparison of a run against its rolling baseline:
+ * the baseline window, the minimum number of baseline samples and both regression thresholds.
+ * Uses a scratch directory under target/, no browser needed.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class LoadHistoryStoreTest {
+
+    private static final String KEY = "Cipla";
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createDirectories(Paths.get(System.getProperty("user.dir"), "target", "load-history-test"));
+    }
+
+    @AfterClass
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void slowdownAboveBothThresholdsRegressesP50AndP95() throws IOException {
+        Path file = history("both-thresholds", run(1000, 5));
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 10, 5, 25, 250);
+        record(store, 2000, 5);
+
+        List<LoadHistoryStore.Regression> regressions = store.finishRun();
+
+        Assert.assertEquals(regressions.size(), 2);
+        Assert.assertEquals(regressions.get(0).getPercentile(), 50);
+        Assert.assertEquals(regressions.get(1).getPercentile(), 95);
+        Assert.assertEquals(regressions.get(0).getBaselineMillis(), 1000);
+        Assert.assertEquals(regressions.get(0).getCurrentMillis(), 2000);
+    }
+
+    @Test
+    public void slowdownWithinThePercentThresholdIsNotARegression() throws IOException {
+        Path file = history("percent-threshold", run(1000, 5));
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 10, 5, 25, 100);
+        // +20% (200 ms) clears the minimum delta but not the 25% threshold
+        record(store, 1200, 5);
+
+        Assert.assertTrue(store.finishRun().isEmpty());
+    }
+
+    @Test
+    public void slowdownBelowTheMinimumDeltaIsNotARegression() throws IOException {
+        Path file = history("min-delta", run(100, 5));
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 10, 5, 25, 250);
+        // +100%, but only 100 ms slower
+        record(store, 200, 5);
+
+        Assert.assertTrue(store.finishRun().isEmpty());
+    }
+
+    @Test
+    public void keyWithTooFewBaselineSamplesIsNotCompared() throws IOException {
+        Path file = history("min-samples", run(1000, 4));
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 10, 5, 25, 250);
+        record(store, 5000, 5);
+
+        Assert.assertTrue(store.finishRun().isEmpty());
+    }
+
+    @Test
+    public void baselinePoolsOnlyTheLastReadableRuns() throws IOException {
+        // The slow oldest run is outside a two-run window; the cut-short line does not count as a run
+        Path file = history("baseline-window", run(10000, 5), run(1000, 3), run(1000, 3), "{\"run\":\"crashed");
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 2, 5, 25, 250);
+        record(store, 2000, 5);
+
+        List<LoadHistoryStore.Regression> regressions = store.finishRun();
+
+        Assert.assertEquals(regressions.size(), 2);
+        Assert.assertEquals(regressions.get(1).getPercentile(), 95);
+        Assert.assertEquals(regressions.get(1).getBaselineMillis(), 1000);
+    }
+
+    @Test
+    public void finishedRunIsAppendedOnce() throws IOException {
+        Path file = history("append", run(1000, 5));
+        LoadHistoryStore store = new LoadHistoryStore(file, 500, 10, 5, 25, 250);
+        record(store, 1000, 5);
+
+        store.finishRun();
+        store.finishRun();
+
+        Assert.assertEquals(Files.readAllLines(file, StandardCharsets.UTF_8).size(), 2);
+    }
+
+    private Path history(String name, String... runs) throws IOException {
+        Path file = directory.resolve(name + ".jsonl");
+        Files.write(file, List.of(runs), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String run(long millis, int samples) {
+        List<String> values = new ArrayList<>(Collections.nCopies(samples, String.valueOf(millis)));
+        return "{\"run\":\"previous\",\"ts\":\"previous\",\"samples\":{\"" + KEY + "\":[" + String.join(",", values) + "]}}";
+    }
+
+    private static void record(LoadHistoryStore store, long millis, int samples) {
+        for (int i = 0; i < samples; i++) {
+            store.record(KEY, millis);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTimeStatistics records observed load latencies per application and derives wait budgets
+ * from them, so every dashboard waits about as long as it actually needs.
+ *
+ * Samples are keyed by application name (the names in metanames.json and the feature data tables)
+ * or by a step name such as "authentication". The most recent samples of each key are kept and
+ * persisted between runs. A key's budget is its p99 plus a margin, clamped to a minimum and
+ * maximum; keys without enough history use the caller's default timeout.
+ *
+ * Configuration (global.properties):
+ * load.stats.file        - statistics file (test-output/load-stats.json)
+ * load.stats.samples     - samples kept per key (200)
+ * load.stats.min.samples - samples needed before a budget is learned (5)
+ * load.stats.margin.pct  - margin added on top of p99, in percent (50)
+ * load.stats.min.seconds - lower bound of a learned budget (5)
+ * load.stats.max.seconds - upper bound of a learned budget (120)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class LoadTimeStatistics {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static volatile LoadTimeStatistics instance;
+
+    private final File file;
+    private final int maxSamples;
+    private final int minSamples;
+    private final int marginPercent;
+    private final Duration minBudget;
+    private final Duration maxBudget;
+    private final Map<String, Deque<Long>> samples = new HashMap<>();
+    private boolean dirty;
+
+    private LoadTimeStatistics() {
+        String path = ConfigReader.getProperty("load.stats.file", "test-output/load-stats.json");
+        this.file = new File(path).isAbsolute() ? new File(path) : new File(System.getProperty("user.dir"), path);
+        this.maxSamples = ConfigReader.getInt("load.stats.samples", 200);
+        this.minSamples = ConfigReader.getInt("load.stats.min.samples", 5);
+        this.marginPercent = ConfigReader.getInt("load.stats.margin.pct", 50);
+        this.minBudget = Duration.ofSeconds(ConfigReader.getInt("load.stats.min.seconds", 5));
+        this.maxBudget = Duration.ofSeconds(ConfigReader.getInt("load.stats.max.seconds", 120));
+        load();
+    }
+
+    /**
+     * Gets the shared statistics store, loading the persisted history on first use.
+     *
+     * @return the statistics store
+     */
+    public static LoadTimeStatistics getInstance() {
+        if (instance == null) {
+            synchronized (LoadTimeStatistics.class) {
+                if (instance == null) {
+                    instance = new LoadTimeStatistics();
+                    Runtime.getRuntime().addShutdownHook(new Thread(instance::save, "load-stats-save"));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Records one observed load latency.
+     *
+     * @param key application or step name
+     * @param millis observed latency in milliseconds
+     */
+    public synchronized void record(String key, long millis) {
+        if (key == null || millis < 0) {
+            return;
+        }
+        Deque<Long> history = samples.computeIfAbsent(key, k -> new ArrayDeque<>());
+        history.addLast(millis);
+        while (history.size() > maxSamples) {
+            history.removeFirst();
+        }
+        dirty = true;
+    }
+
+    /**
+     * Records a load that did not finish within its budget. It is recorded at the caller's default
+     * timeout, not at the budget: a budget already includes the margin, so recording it would grow
+     * the next budget by the margin again on every failure until the maximum is reached.
+     *
+     * @param key application or step name
+     * @param defaultTimeout timeout the key uses without history
+     */
+    public void recordFailure(String key, Duration defaultTimeout) {
+        record(key, defaultTimeout.toMillis());
+    }
+
+    /**
+     * Gets the wait budget for a key: p99 of its history plus the margin, clamped to the configured
+     * bounds. Falls back to the default until enough samples have been recorded.
+     *
+     * @param key application or step name
+     * @param defaultTimeout timeout to use without enough history
+     * @return wait budget
+     */
+    public synchronized Duration budget(String key, Duration defaultTimeout) {
+        Deque<Long> history = key == null ? null : samples.get(key);
+        if (history == null || history.size() < minSamples) {
+            return defaultTimeout;
+        }
+        long p99 = percentile(new ArrayList<>(history), 99);
+        long millis = p99 + p99 * marginPercent / 100;
+        millis = Math.max(minBudget.toMillis(), Math.min(maxBudget.toMillis(), millis));
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Gets the recorded samples for a key, oldest first.
+     *
+     * @param key application or step name
+     * @return copy of the samples
+     */
+    public synchronized List<Long> samples(String key) {
+        Deque<Long> history = samples.get(key);
+        return history == null ? Collections.emptyList() : new ArrayList<>(history);
+    }
+
+    /**
+     * Nearest-rank percentile of a list of values.
+     *
+     * @param values values, in any order
+     * @param percentile percentile between 0 and 100
+     * @return the percentile value, 0 for an empty list
+     */
+    public static long percentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    /**
+     * Writes the statistics to disk if anything was recorded since the last save.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            File parent = file.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, samples);
+            dirty = false;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not save load statistics: " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            Map<String, List<Long>> stored = objectMapper.readValue(file, new TypeReference<Map<String, List<Long>>>() {});
+            stored.forEach((key, values) -> {
+                Deque<Long> history = new ArrayDeque<>(values);
+                while (history.size() > maxSamples) {
+                    history.removeFirst();
+                }
+                samples.put(key, history);
+            });
+            System.out.println("Loaded load statistics for " + samples.size() + " applications");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read load statistics, starting fresh: " + e.getMessage());
+        }
+    }
+}
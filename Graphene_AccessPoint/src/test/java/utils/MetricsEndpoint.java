@@ -0,0 +1,233 @@
+package utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsEndpoint serves live run metrics in Prometheus text format on localhost, so a local
+ * scraper can follow throughput and spot stalls while the suite is still running.
+ *
+ * Exposed on GET /metrics:
+ * - graphene_scenarios_completed_total / graphene_scenarios_failed_total
+ * - graphene_dashboard_load_seconds histogram per dashboard and tab
+ * - graphene_browsers_active, browsers launched by {@link TestBase#createDriver(boolean)} and not yet quit
+ * - graphene_webdriver_commands_total / _errors_total (needs metrics.commands.enabled)
+ * - jvm_memory_heap_used_bytes / jvm_memory_heap_max_bytes
+ *
+ * The counters are always kept; only the HTTP server is opt-in.
+ *
+ * Configuration (global.properties):
+ * metrics.endpoint.enabled - start the endpoint (false)
+ * metrics.endpoint.port    - port on 127.0.0.1 (9464)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class MetricsEndpoint {
+
+    /**
+     * Upper bounds of the load time buckets in seconds; +Inf is added when rendering.
+     */
+    private static final double[] BUCKET_BOUNDS_SECONDS = {0.5, 1, 2, 5, 10, 20, 30, 60, 120};
+
+    private static final AtomicLong scenariosCompleted = new AtomicLong();
+    private static final AtomicLong scenariosFailed = new AtomicLong();
+    private static final Map<String, LoadHistogram> dashboardLoads = new ConcurrentHashMap<>();
+    // Weak keys, so a browser that was quit and dropped by everyone is not kept alive for the count
+    private static final Map<RemoteWebDriver, Boolean> browsers = Collections.synchronizedMap(new WeakHashMap<>());
+    private static HttpServer server;
+
+    private MetricsEndpoint() {
+    }
+
+    /**
+     * Checks whether the metrics endpoint should be started.
+     *
+     * @return metrics.endpoint.enabled from global.properties
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("metrics.endpoint.enabled", false);
+    }
+
+    /**
+     * Starts the endpoint on localhost if it is enabled and not running yet.
+     */
+    public static synchronized void startIfEnabled() {
+        if (!isEnabled() || server != null) {
+            return;
+        }
+        int port = ConfigReader.getInt("metrics.endpoint.port", 9464);
+        try {
+            HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            created.createContext("/metrics", exchange -> {
+                byte[] body = render().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            created.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-endpoint");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            created.start();
+            server = created;
+            System.out.println("📈 Metrics endpoint at http://127.0.0.1:" + created.getAddress().getPort() + "/metrics");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the endpoint if it was started.
+     */
+    public static synchronized void stopIfStarted() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+            System.out.println("Metrics endpoint stopped");
+        }
+    }
+
+    /**
+     * Counts a finished scenario.
+     *
+     * @param failed true if the scenario failed
+     */
+    public static void scenarioFinished(boolean failed) {
+        scenariosCompleted.incrementAndGet();
+        if (failed) {
+            scenariosFailed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records a dashboard or tab load time.
+     *
+     * @param dashboard application name
+     * @param tab tab label, or null for the dashboard itself
+     * @param millis load time
+     */
+    public static void observeDashboardLoad(String dashboard, String tab, long millis) {
+        String labels = "dashboard=\"" + escape(dashboard) + "\",tab=\"" + escape(tab == null ? "" : tab) + "\"";
+        dashboardLoads.computeIfAbsent(labels, k -> new LoadHistogram()).add(millis / 1000.0);
+    }
+
+    /**
+     * Counts a newly launched browser as active until its session ends.
+     *
+     * @param driver undecorated browser driver
+     */
+    public static void registerBrowser(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            browsers.put((RemoteWebDriver) driver, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Renders every metric in Prometheus text exposition format.
+     *
+     * @return metrics text
+     */
+    static String render() {
+        StringBuilder text = new StringBuilder();
+        counter(text, "graphene_scenarios_completed_total", "Scenarios finished, passed or failed", scenariosCompleted.get());
+        counter(text, "graphene_scenarios_failed_total", "Scenarios that failed", scenariosFailed.get());
+
+        text.append("# HELP graphene_dashboard_load_seconds Time from opening a dashboard or clicking a tab until it rendered\n")
+                .append("# TYPE graphene_dashboard_load_seconds histogram\n");
+        new TreeMap<>(dashboardLoads).forEach((labels, histogram) -> histogram.render(text, "graphene_dashboard_load_seconds", labels));
+
+        gauge(text, "graphene_browsers_active", "Browsers launched and not yet quit", activeBrowsers());
+        counter(text, "graphene_webdriver_commands_total", "WebDriver commands sent (metrics.commands.enabled)", CommandMetrics.commandCount());
+        counter(text, "graphene_webdriver_command_errors_total", "WebDriver commands that threw", CommandMetrics.commandErrorCount());
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        gauge(text, "jvm_memory_heap_used_bytes", "Used JVM heap", heap.getUsed());
+        gauge(text, "jvm_memory_heap_max_bytes", "Maximum JVM heap, -1 if undefined", heap.getMax());
+        return text.toString();
+    }
+
+    private static long activeBrowsers() {
+        List<RemoteWebDriver> launched;
+        synchronized (browsers) {
+            launched = new ArrayList<>(browsers.keySet());
+        }
+        // A quit driver has no session id
+        return launched.stream().filter(driver -> driver.getSessionId() != null).count();
+    }
+
+    private static void counter(StringBuilder text, String name, String help, long value) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n")
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, long value) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" gauge\n")
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Cumulative-bucket load time histogram of one dashboard or tab.
+     */
+    private static class LoadHistogram {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_SECONDS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sumMillis = new LongAdder();
+
+        LoadHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void add(double seconds) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_SECONDS.length && seconds > BUCKET_BOUNDS_SECONDS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            count.increment();
+            sumMillis.add(Math.round(seconds * 1000));
+        }
+
+        void render(StringBuilder text, String name, String labels) {
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                String bound = i < BUCKET_BOUNDS_SECONDS.length ? String.valueOf(BUCKET_BOUNDS_SECONDS[i]) : "+Inf";
+                text.append(name).append("_bucket{").append(labels).append(",le=\"").append(bound).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            text.append(name).append("_sum{").append(labels).append("} ").append(sumMillis.sum() / 1000.0).append('\n');
+            text.append(name).append("_count{").append(labels).append("} ").append(count.sum()).append('\n');
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkIdleMonitor tracks in-flight requests of a Chrome page and its child frames through
+ * Chrome DevTools Protocol Network events and reports "network idle for X ms".
+ *
+ * Raw CDP method names are used instead of a versioned devtools package, so the monitor keeps
+ * working when Chrome updates. Only the page target is monitored, through the public DevTools
+ * session: it sees the page and its same-process frames. A cross-origin iframe that Chrome runs in
+ * its own renderer is a separate target whose requests are not reported here, so
+ * {@link WaitConditions#networkIdle(Duration)} also checks the frame's own Resource Timing entries
+ * when the driver is inside a frame.
+ *
+ * Requests that never finish by design (WebSocket, EventSource) and requests older than
+ * wait.network.longpoll.ms are ignored so long-polling dashboards can still reach idle.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class NetworkIdleMonitor {
+
+    private static final Map<WebDriver, NetworkIdleMonitor> monitors = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<String> IGNORED_TYPES = Set.of("WebSocket", "EventSource");
+
+    private final DevTools devTools;
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, String> frameOfRequest = new ConcurrentHashMap<>();
+    private final AtomicLong lastActivity = new AtomicLong(System.currentTimeMillis());
+    private final long longPollMillis = ConfigReader.getInt("wait.network.longpoll.ms", 15000);
+
+    private NetworkIdleMonitor(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Checks whether CDP network tracking is switched on (wait.network.cdp, default true).
+     *
+     * @return true if the CDP monitor should be used
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("wait.network.cdp", true);
+    }
+
+    /**
+     * Starts monitoring a driver if CDP tracking is enabled and the browser supports it.
+     * Call right after the driver is created so requests of the first navigation are seen.
+     *
+     * @param driver driver to monitor
+     */
+    public static void attachIfEnabled(WebDriver driver) {
+        if (isEnabled()) {
+            forDriver(driver);
+        }
+    }
+
+    /**
+     * Gets the monitor for a driver, starting it on first use.
+     *
+     * @param driver driver to monitor
+     * @return the monitor, or null if the driver does not support DevTools
+     */
+    public static NetworkIdleMonitor forDriver(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        synchronized (monitors) {
+            NetworkIdleMonitor monitor = monitors.get(driver);
+            if (monitor == null) {
+                try {
+                    monitor = new NetworkIdleMonitor(((HasDevTools) driver).getDevTools());
+                    monitor.start();
+                } catch (Exception e) {
+                    System.out.println("CDP network monitoring unavailable: " + e.getMessage());
+                    return null;
+                }
+                monitors.put(driver, monitor);
+            }
+            return monitor;
+        }
+    }
+
+    /**
+     * Checks whether no tracked request has been in flight for the quiet period.
+     *
+     * @param quietPeriod required idle time
+     * @return true if the page and its same-process frames are network idle
+     */
+    public boolean isIdleFor(Duration quietPeriod) {
+        long now = System.currentTimeMillis();
+        inFlight.entrySet().removeIf(entry -> {
+            if (now - entry.getValue() <= longPollMillis) {
+                return false;
+            }
+            // Long polls stop counting; drop their frame too, they may never finish
+            frameOfRequest.remove(entry.getKey());
+            return true;
+        });
+        return inFlight.isEmpty() && now - lastActivity.get() >= quietPeriod.toMillis();
+    }
+
+    /**
+     * Gets the number of outstanding requests per frame id, for diagnostics.
+     *
+     * @return frame id to in-flight request count
+     */
+    public Map<String, Integer> inFlightByFrame() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String requestId : inFlight.keySet()) {
+            counts.merge(frameOfRequest.getOrDefault(requestId, "unknown"), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Condition for {@link WaitEngine}: true once the network has been idle for the quiet period.
+     *
+     * @param quietPeriod required idle time
+     * @return wait condition
+     */
+    public ExpectedCondition<Boolean> idleCondition(Duration quietPeriod) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return isIdleFor(quietPeriod);
+            }
+
+            @Override
+            public String toString() {
+                return "CDP network idle for " + quietPeriod.toMillis() + " ms (in flight: " + inFlightByFrame() + ")";
+            }
+        };
+    }
+
+    private void start() {
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(event("Network.requestWillBeSent"), params -> {
+            String requestId = String.valueOf(params.get("requestId"));
+            if (IGNORED_TYPES.contains(String.valueOf(params.get("type")))) {
+                return;
+            }
+            inFlight.put(requestId, System.currentTimeMillis());
+            frameOfRequest.put(requestId, String.valueOf(params.get("frameId")));
+            lastActivity.set(System.currentTimeMillis());
+        });
+        devTools.addListener(event("Network.loadingFinished"), params -> finished(params));
+        devTools.addListener(event("Network.loadingFailed"), params -> finished(params));
+        devTools.send(new Command<>("Network.enable", Map.of()));
+    }
+
+    private void finished(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        frameOfRequest.remove(requestId);
+        if (inFlight.remove(requestId) != null) {
+            lastActivity.set(System.currentTimeMillis());
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,187 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * RenderCompletionWaiter waits for a dashboard to finish rendering with a single
+ * executeAsyncScript call inside the dashboard frame.
+ *
+ * The injected script uses a MutationObserver and resolves once the tab-zone tab-widget
+ * containers exist, the expected container is visible and the DOM has not mutated for the
+ * quiet period. All polling happens in the browser, so one WebDriver round-trip replaces the
+ * findElement polling of an explicit wait, and the result carries the exact time the last
+ * mutation happened.
+ *
+ * The script ends itself when the timeout is reached, so the driver's script timeout only has to
+ * be longer than that. It is raised once per driver to the largest timeout asked for so far and
+ * never lowered, instead of being changed and restored around every wait.
+ *
+ * Configuration (global.properties):
+ * render.quiet.ms      - DOM quiet period that counts as rendered (500)
+ * wait.timeout.seconds - render timeout (20)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class RenderCompletionWaiter {
+
+    private static final String RENDER_SCRIPT =
+            "var xpath = arguments[0], quietMs = arguments[1], timeoutMs = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var start = performance.now(), lastMutation = performance.now(), finished = false;" +
+            "function containers() { return document.querySelectorAll('div.tab-zone.tab-widget'); }" +
+            "function target() {" +
+            "  if (!xpath) { return containers()[0]; }" +
+            "  return document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "}" +
+            "function visible(el) {" +
+            "  if (!el) { return false; }" +
+            "  var rect = el.getBoundingClientRect(), style = window.getComputedStyle(el);" +
+            "  return rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none';" +
+            "}" +
+            "var observer = new MutationObserver(function () { lastMutation = performance.now(); });" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "var timer;" +
+            "function finish(ok, reason) {" +
+            "  if (finished) { return; }" +
+            "  finished = true; observer.disconnect(); clearInterval(timer);" +
+            "  done({ok: ok, reason: reason, elapsedMs: Math.round(performance.now() - start)," +
+            "        renderedAt: Math.round(performance.timeOrigin + lastMutation), containers: containers().length});" +
+            "}" +
+            "function check() {" +
+            "  var now = performance.now(), shown = visible(target());" +
+            "  if (shown && containers().length > 0 && now - lastMutation >= quietMs) { finish(true, 'rendered'); }" +
+            "  else if (now - start >= timeoutMs) { finish(false, shown ? 'still mutating' : 'container not visible'); }" +
+            "}" +
+            "timer = setInterval(check, 50);" +
+            "check();";
+
+    // Script timeout set on each driver, so it is only sent again when a longer wait needs more
+    private static final Map<WebDriver, Duration> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final Duration quietPeriod;
+    private final Duration timeout;
+
+    public RenderCompletionWaiter(WebDriver driver) {
+        this(driver, Duration.ofSeconds(ConfigReader.getInt("wait.timeout.seconds", 20)));
+    }
+
+    public RenderCompletionWaiter(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.quietPeriod = Duration.ofMillis(ConfigReader.getInt("render.quiet.ms", 500));
+    }
+
+    /**
+     * Waits for the dashboard in the current frame to render.
+     *
+     * @param containerXpath container that must be visible, or null for the first tab-zone tab-widget
+     * @return render result
+     * @throws TimeoutException if the container is not rendered within the timeout
+     */
+    public RenderResult awaitRender(String containerXpath) {
+        ensureScriptTimeout(timeout.plusSeconds(5));
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(RENDER_SCRIPT,
+                containerXpath, quietPeriod.toMillis(), timeout.toMillis());
+        RenderResult result = RenderResult.from(raw);
+        if (!result.isRendered()) {
+            throw new TimeoutException("Dashboard did not finish rendering (" + result.getReason() + ") for " + containerXpath);
+        }
+        return result;
+    }
+
+    private void ensureScriptTimeout(Duration needed) {
+        synchronized (scriptTimeouts) {
+            Duration current = scriptTimeouts.get(driver);
+            if (current != null && current.compareTo(needed) >= 0) {
+                return;
+            }
+            driver.manage().timeouts().scriptTimeout(needed);
+            scriptTimeouts.put(driver, needed);
+        }
+    }
+
+    /**
+     * Switches into the dashboard frame, unless the driver is already in it (see {@link FrameContext}),
+     * and waits for it to render. The driver stays inside the frame afterwards.
+     *
+     * @param frame locator of the dashboard iframe in the top-level document
+     * @param containerXpath container that must be visible, or null for the first tab-zone tab-widget
+     * @return render result
+     * @throws TimeoutException if the container is not rendered within the timeout
+     */
+    public RenderResult awaitRenderInFrame(By frame, String containerXpath) {
+        FrameContext.of(driver).enter(driver, frame);
+        return awaitRender(containerXpath);
+    }
+
+    /**
+     * Outcome of one render wait, as reported by the in-browser script.
+     */
+    public static class RenderResult {
+        private final boolean rendered;
+        private final String reason;
+        private final long elapsedMillis;
+        private final long renderedAtEpochMillis;
+        private final int containerCount;
+
+        RenderResult(boolean rendered, String reason, long elapsedMillis, long renderedAtEpochMillis, int containerCount) {
+            this.rendered = rendered;
+            this.reason = reason;
+            this.elapsedMillis = elapsedMillis;
+            this.renderedAtEpochMillis = renderedAtEpochMillis;
+            this.containerCount = containerCount;
+        }
+
+        static RenderResult from(Object raw) {
+            if (!(raw instanceof Map)) {
+                return new RenderResult(false, "no result from render script", 0, 0, 0);
+            }
+            Map<?, ?> map = (Map<?, ?>) raw;
+            return new RenderResult(
+                    Boolean.TRUE.equals(map.get("ok")),
+                    String.valueOf(map.get("reason")),
+                    asLong(map.get("elapsedMs")),
+                    asLong(map.get("renderedAt")),
+                    (int) asLong(map.get("containers")));
+        }
+
+        private static long asLong(Object value) {
+            return value instanceof Number ? ((Number) value).longValue() : 0;
+        }
+
+        public boolean isRendered() {
+            return rendered;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public long getRenderedAtEpochMillis() {
+            return renderedAtEpochMillis;
+        }
+
+        public int getContainerCount() {
+            return containerCount;
+        }
+
+        @Override
+        public String toString() {
+            return rendered + " (" + reason + " in " + elapsedMillis + " ms, " + containerCount + " containers)";
+        }
+    }
+}
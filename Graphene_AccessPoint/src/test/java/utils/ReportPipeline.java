@@ -0,0 +1,246 @@
+package utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * ReportPipeline moves Extent report work off the browser-driving threads.
+ *
+ * Each scenario thread gets its own report handle (inherited by the shard worker threads it
+ * starts), so parallel scenarios never log into each other's test. Log events are queued and
+ * applied by a single "report-writer" thread, which is the only thread touching ExtentReports;
+ * the report file is flushed whenever a scenario ends and once more at the end of the run.
+ *
+ * When the queue is full, or the pipeline is switched off, an event is applied on the calling
+ * thread under the same lock the writer uses. Screenshot capture switches the pipeline on, since
+ * only the writer thread may wait for a screenshot that is still being encoded.
+ *
+ * Configuration (global.properties):
+ * report.async.enabled   - queue report events to the writer thread (false)
+ * report.queue.capacity  - events queued before callers write themselves (10000)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class ReportPipeline {
+
+    private static final InheritableThreadLocal<ScenarioReport> current = new InheritableThreadLocal<>();
+    private static final Object writeLock = new Object();
+    private static final long SCREENSHOT_WAIT_SECONDS = 30;
+    private static volatile BlockingQueue<Runnable> queue;
+    private static volatile Thread writer;
+
+    private ReportPipeline() {
+    }
+
+    /**
+     * Checks whether report events are written on the background thread.
+     *
+     * @return report.async.enabled from global.properties, or true while screenshots are captured
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("report.async.enabled", false) || ScreenshotService.isEnabled();
+    }
+
+    /**
+     * Creates the scenario's test in the report and binds it to the calling thread.
+     *
+     * @param scenarioName name shown in the report
+     */
+    public static void startScenario(String scenarioName) {
+        ScenarioReport report = new ScenarioReport(scenarioName);
+        current.set(report);
+        submit(() -> report.test = ExtentReportManager.getInstance().createTest(scenarioName));
+    }
+
+    /**
+     * Unbinds the scenario from the calling thread and flushes the report file in the background.
+     */
+    public static void endScenario() {
+        if (current.get() == null) {
+            return;
+        }
+        current.remove();
+        submit(() -> ExtentReportManager.getInstance().flush());
+    }
+
+    public static void log(Status status, String message) {
+        apply(test -> test.log(status, message), "[" + status + "] " + message);
+    }
+
+    public static void addScreenshot(String path, String title) {
+        apply(test -> test.addScreenCaptureFromPath(path, title), "Screenshot " + title + ": " + path);
+    }
+
+    /**
+     * Attaches a screenshot that is still being written in the background. The writer thread waits
+     * for the file, so the image keeps its place among the scenario's log entries. If the event
+     * cannot be queued it is applied once the file is written, never by waiting on the calling thread.
+     *
+     * @param path future path of the image
+     * @param title caption in the report
+     */
+    public static void addScreenshot(CompletableFuture<String> path, String title) {
+        ScenarioReport report = current.get();
+        if (report == null) {
+            path.thenAccept(file -> System.out.println("Screenshot " + title + ": " + file));
+            return;
+        }
+        Runnable attach = () -> {
+            if (report.test == null) {
+                System.out.println(report.name + " Screenshot " + title);
+                return;
+            }
+            try {
+                report.test.addScreenCaptureFromPath(path.get(SCREENSHOT_WAIT_SECONDS, TimeUnit.SECONDS), title);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                report.test.log(Status.WARNING, "Screenshot " + title + " not available: " + e.getMessage());
+            }
+        };
+        BlockingQueue<Runnable> pending = isEnabled() ? ensureWriter() : null;
+        if (pending == null || !pending.offer(attach)) {
+            path.whenComplete((file, error) -> runGuarded(attach));
+        }
+    }
+
+    /**
+     * Adds a test of its own to the report, for results that belong to the run rather than a scenario.
+     *
+     * @param name test name
+     * @param status status of every line
+     * @param lines lines to log
+     */
+    public static void addSummary(String name, Status status, List<String> lines) {
+        submit(() -> {
+            ExtentTest summary = ExtentReportManager.getInstance().createTest(name);
+            lines.forEach(line -> summary.log(status, line));
+        });
+    }
+
+    /**
+     * Gets the calling thread's test once the writer has created it.
+     *
+     * @return scenario test, or null if no scenario is bound or it has not been created yet
+     */
+    public static ExtentTest currentTest() {
+        ScenarioReport report = current.get();
+        return report == null ? null : report.test;
+    }
+
+    /**
+     * Writes every queued event, flushes the report and stops the writer thread.
+     */
+    public static void shutdown() {
+        Thread running;
+        BlockingQueue<Runnable> pending;
+        synchronized (ReportPipeline.class) {
+            running = writer;
+            pending = queue;
+            writer = null;
+            queue = null;
+        }
+        if (running != null && pending != null) {
+            CountDownLatch drained = new CountDownLatch(1);
+            try {
+                pending.put(drained::countDown);
+                if (!drained.await(60, TimeUnit.SECONDS)) {
+                    System.out.println("⚠️ Report writer did not drain within 60s");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.interrupt();
+        }
+        synchronized (writeLock) {
+            ExtentReportManager.getInstance().flush();
+        }
+    }
+
+    private static void apply(Consumer<ExtentTest> action, String consoleLine) {
+        ScenarioReport report = current.get();
+        if (report == null) {
+            // No scenario bound to this thread (e.g. a helper thread) - keep the message on the console
+            System.out.println(consoleLine);
+            return;
+        }
+        submit(() -> {
+            if (report.test != null) {
+                action.accept(report.test);
+            } else {
+                System.out.println(report.name + " " + consoleLine);
+            }
+        });
+    }
+
+    private static void submit(Runnable event) {
+        BlockingQueue<Runnable> pending = isEnabled() ? ensureWriter() : null;
+        if (pending == null || !pending.offer(event)) {
+            runGuarded(event);
+        }
+    }
+
+    private static BlockingQueue<Runnable> ensureWriter() {
+        if (queue == null) {
+            synchronized (ReportPipeline.class) {
+                if (queue == null) {
+                    BlockingQueue<Runnable> created = new LinkedBlockingQueue<>(ConfigReader.getInt("report.queue.capacity", 10000));
+                    Thread thread = new Thread(() -> drain(created), "report-writer");
+                    thread.setDaemon(true);
+                    thread.start();
+                    writer = thread;
+                    queue = created;
+                }
+            }
+        }
+        return queue;
+    }
+
+    private static void drain(BlockingQueue<Runnable> pending) {
+        try {
+            while (true) {
+                runGuarded(pending.take());
+            }
+        } catch (InterruptedException e) {
+            // Shutdown; write whatever is still queued before the thread ends
+            Runnable event;
+            while ((event = pending.poll()) != null) {
+                runGuarded(event);
+            }
+        }
+    }
+
+    private static void runGuarded(Runnable event) {
+        synchronized (writeLock) {
+            try {
+                event.run();
+            } catch (Exception e) {
+                // A broken report entry must never stop the writer
+                System.out.println("⚠️ Report event failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One scenario's test, created on the writer thread.
+     */
+    private static class ScenarioReport {
+        private final String name;
+        private volatile ExtentTest test;
+
+        ScenarioReport(String name) {
+            this.name = name;
+        }
+    }
+}
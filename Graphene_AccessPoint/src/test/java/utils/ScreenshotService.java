@@ -0,0 +1,246 @@
+package utils;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScreenshotService captures visual evidence of dashboards and tabs without making the test
+ * thread wait for image encoding or disk writes.
+ *
+ * The test thread only takes the capture: one CDP Page.captureScreenshot call, clipped to the
+ * dashboard iframe when asked (the iframe's position is read with Runtime.evaluate in the top
+ * document, so the driver's current frame is left alone). Decoding, hashing, JPEG compression and
+ * writing happen on background encoder threads. Files are named after the SHA-256 of the PNG bytes
+ * returned by the browser, so identical captures are stored once and shared by every report entry
+ * that shows them.
+ *
+ * Browsers without DevTools fall back to a plain WebDriver screenshot of the page.
+ *
+ * Configuration (global.properties):
+ * screenshot.capture.enabled  - capture dashboards and tabs (false)
+ * screenshot.dir              - output directory (screenshot.dir of extent.properties)
+ * screenshot.jpeg.quality     - JPEG quality in percent (70)
+ * screenshot.encoder.threads  - background encoder threads (1)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class ScreenshotService {
+
+    private static final String EXTENT_PROPERTIES = "src/test/java/resources/extent.properties";
+    private static final String FRAME_RECT_SCRIPT =
+            "(function(){var f=document.querySelector(%s);if(!f){return null;}var r=f.getBoundingClientRect();" +
+            "return [r.left+window.scrollX,r.top+window.scrollY,r.width,r.height];})()";
+    private static volatile ScreenshotService instance;
+
+    private final Path directory;
+    private final float jpegQuality;
+    private final ExecutorService encoder;
+    // Content hash -> written file, so repeated frames are encoded once
+    private final Map<String, CompletableFuture<String>> written = new ConcurrentHashMap<>();
+
+    private ScreenshotService(Path directory, float jpegQuality, int threads) {
+        this.directory = directory;
+        this.jpegQuality = jpegQuality;
+        AtomicInteger counter = new AtomicInteger();
+        this.encoder = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-encoder-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Checks whether dashboards and tabs should be captured.
+     *
+     * @return screenshot.capture.enabled from global.properties
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("screenshot.capture.enabled", false);
+    }
+
+    public static ScreenshotService getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotService.class) {
+                if (instance == null) {
+                    String dir = ConfigReader.getProperty("screenshot.dir", extentScreenshotDir());
+                    File file = new File(dir).isAbsolute() ? new File(dir) : new File(System.getProperty("user.dir"), dir);
+                    instance = new ScreenshotService(file.toPath(),
+                            ConfigReader.getInt("screenshot.jpeg.quality", 70) / 100f,
+                            ConfigReader.getInt("screenshot.encoder.threads", 1));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Captures the page, or only the element matched by the CSS selector, if capture is enabled.
+     * Failures are reported on the console and never fail the validation.
+     *
+     * @param driver browser to capture
+     * @param frameSelector CSS selector of the iframe to clip to, or null for the visible page
+     * @return future path of the written JPEG, or null when capture is off or failed
+     */
+    public static CompletableFuture<String> captureIfEnabled(WebDriver driver, String frameSelector) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            return getInstance().capture(driver, frameSelector);
+        } catch (Exception e) {
+            System.out.println("⚠️ Screenshot capture failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Waits for pending encodes and stops the encoder threads, if the service was started.
+     */
+    public static void shutdownIfStarted() {
+        synchronized (ScreenshotService.class) {
+            if (instance != null) {
+                instance.encoder.shutdown();
+                try {
+                    instance.encoder.awaitTermination(60, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Takes the capture on the calling thread and hands encoding to the background.
+     *
+     * @param driver browser to capture
+     * @param frameSelector CSS selector of the iframe to clip to, or null for the visible page
+     * @return future path of the written JPEG
+     */
+    public CompletableFuture<String> capture(WebDriver driver, String frameSelector) {
+        String base64Png = driver instanceof HasDevTools
+                ? captureWithDevTools(((HasDevTools) driver).getDevTools(), frameSelector)
+                : ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        return CompletableFuture.supplyAsync(() -> Base64.getDecoder().decode(base64Png), encoder)
+                .thenCompose(this::store);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String captureWithDevTools(DevTools devTools, String frameSelector) {
+        devTools.createSessionIfThereIsNotOne();
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", "png");
+        if (frameSelector != null) {
+            Map<String, Object> evaluated = devTools.send(new Command<Map<String, Object>>("Runtime.evaluate",
+                    Map.of("expression", String.format(FRAME_RECT_SCRIPT, quote(frameSelector)), "returnByValue", true), Map.class));
+            Object value = ((Map<String, Object>) evaluated.get("result")).get("value");
+            if (value instanceof List && ((List<?>) value).size() == 4) {
+                List<Number> rect = (List<Number>) value;
+                if (rect.get(2).doubleValue() > 0 && rect.get(3).doubleValue() > 0) {
+                    params.put("clip", Map.of("x", rect.get(0), "y", rect.get(1),
+                            "width", rect.get(2), "height", rect.get(3), "scale", 1));
+                }
+            }
+        }
+        Map<String, Object> screenshot = devTools.send(new Command<Map<String, Object>>("Page.captureScreenshot", params, Map.class));
+        return (String) screenshot.get("data");
+    }
+
+    /**
+     * Writes the capture as JPEG under its content hash, reusing the file of an identical capture.
+     */
+    private CompletableFuture<String> store(byte[] png) {
+        String hash = sha256(png);
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = written.putIfAbsent(hash, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            Path target = directory.resolve(hash.substring(0, 16) + ".jpg");
+            if (!Files.exists(target)) {
+                Files.createDirectories(directory);
+                Path temp = Files.createTempFile(directory, "capture", ".tmp");
+                writeJpeg(ImageIO.read(new ByteArrayInputStream(png)), temp.toFile());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            created.complete(target.toAbsolutePath().toString());
+        } catch (Exception e) {
+            written.remove(hash);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void writeJpeg(BufferedImage image, File file) throws IOException {
+        // JPEG has no alpha channel; draw onto an RGB canvas first
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(image, 0, 0, java.awt.Color.WHITE, null);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String quote(String selector) {
+        return "'" + selector.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    private static String extentScreenshotDir() {
+        Properties extent = new Properties();
+        try (FileInputStream in = new FileInputStream(new File(System.getProperty("user.dir"), EXTENT_PROPERTIES))) {
+            extent.load(in);
+        } catch (IOException e) {
+            System.out.println("Could not read " + EXTENT_PROPERTIES + ": " + e.getMessage());
+        }
+        return extent.getProperty("screenshot.dir", "test-output/screenshots");
+    }
+}
@@ -0,0 +1,137 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * SessionAssessmentTest - Checks the offline decision between reusing a saved session and a fresh
+ * login, from session files built in memory. No browser or saved session needed.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionAssessmentTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long skewSeconds = ConfigReader.getInt("session.expiry.skew.seconds", 300);
+
+    @Test
+    public void allDatedPartsFreshIsFresh() {
+        ObjectNode session = session();
+        cookie(session, "ESTSAUTH", NOW.plusSeconds(3600));
+        ((ObjectNode) session.get("localStorage")).put("msal.token", msalEntry(NOW.plusSeconds(7200).getEpochSecond()));
+
+        SessionManager.SessionAssessment assessment = SessionManager.assess(session, NOW);
+        Assert.assertEquals(assessment.getStatus(), SessionManager.SessionStatus.FRESH);
+        Assert.assertEquals(assessment.getEarliestExpiry(), NOW.plusSeconds(3600));
+    }
+
+    @Test
+    public void allDatedPartsExpiredIsExpired() {
+        ObjectNode session = session();
+        cookie(session, "ESTSAUTH", NOW.minusSeconds(60));
+        ((ObjectNode) session.get("sessionStorage")).put("msal.token", msalEntry(NOW.minusSeconds(3600).getEpochSecond()));
+
+        Assert.assertEquals(SessionManager.assess(session, NOW).getStatus(), SessionManager.SessionStatus.EXPIRED);
+    }
+
+    @Test
+    public void freshAndExpiredPartsAreUnknown() {
+        ObjectNode session = session();
+        cookie(session, "ESTSAUTH", NOW.plusSeconds(3600));
+        cookie(session, "AppSessionToken", NOW.minusSeconds(60));
+
+        SessionManager.SessionAssessment assessment = SessionManager.assess(session, NOW);
+        Assert.assertEquals(assessment.getStatus(), SessionManager.SessionStatus.UNKNOWN);
+        Assert.assertEquals(assessment.getEarliestExpiry(), NOW.minusSeconds(60));
+    }
+
+    @Test
+    public void nothingDatedIsUnknown() {
+        ObjectNode session = session();
+        // A session cookie without expiry, a non-auth cookie and a storage value that is no token
+        ((ArrayNode) session.get("cookies")).addObject().put("name", "ESTSAUTHLIGHT").put("value", "x");
+        cookie(session, "theme", NOW.minusSeconds(60));
+        ((ObjectNode) session.get("localStorage")).put("lastTab", "Summary");
+
+        SessionManager.SessionAssessment assessment = SessionManager.assess(session, NOW);
+        Assert.assertEquals(assessment.getStatus(), SessionManager.SessionStatus.UNKNOWN);
+        Assert.assertNull(assessment.getEarliestExpiry());
+    }
+
+    @Test
+    public void expiryWithinTheSkewCountsAsExpired() {
+        ObjectNode insideSkew = session();
+        cookie(insideSkew, "ESTSAUTH", NOW.plusSeconds(skewSeconds - 1));
+        Assert.assertEquals(SessionManager.assess(insideSkew, NOW).getStatus(), SessionManager.SessionStatus.EXPIRED);
+
+        ObjectNode outsideSkew = session();
+        cookie(outsideSkew, "ESTSAUTH", NOW.plusSeconds(skewSeconds + 1));
+        Assert.assertEquals(SessionManager.assess(outsideSkew, NOW).getStatus(), SessionManager.SessionStatus.FRESH);
+    }
+
+    @Test
+    public void msalExpiresOnStoredAsStringIsRead() {
+        ObjectNode session = session();
+        ObjectNode entry = objectMapper.createObjectNode()
+                .put("credentialType", "AccessToken")
+                .put("expiresOn", String.valueOf(NOW.plusSeconds(1800).getEpochSecond()));
+        ((ObjectNode) session.get("localStorage")).put("msal.token", entry.toString());
+
+        SessionManager.SessionAssessment assessment = SessionManager.assess(session, NOW);
+        Assert.assertEquals(assessment.getStatus(), SessionManager.SessionStatus.FRESH);
+        Assert.assertEquals(assessment.getEarliestExpiry(), NOW.plusSeconds(1800));
+    }
+
+    @Test
+    public void jwtExpClaimIsRead() {
+        ObjectNode fresh = session();
+        ((ObjectNode) fresh.get("sessionStorage")).put("id_token", jwt(NOW.plusSeconds(900).getEpochSecond()));
+        SessionManager.SessionAssessment assessment = SessionManager.assess(fresh, NOW);
+        Assert.assertEquals(assessment.getStatus(), SessionManager.SessionStatus.FRESH);
+        Assert.assertEquals(assessment.getEarliestExpiry(), NOW.plusSeconds(900));
+
+        ObjectNode expired = session();
+        ((ObjectNode) expired.get("localStorage")).put("access_token", jwt(NOW.minusSeconds(10).getEpochSecond()));
+        Assert.assertEquals(SessionManager.assess(expired, NOW).getStatus(), SessionManager.SessionStatus.EXPIRED);
+    }
+
+    private ObjectNode session() {
+        ObjectNode session = objectMapper.createObjectNode();
+        session.putArray("cookies");
+        session.putObject("localStorage");
+        session.putObject("sessionStorage");
+        return session;
+    }
+
+    private static void cookie(JsonNode session, String name, Instant expiry) {
+        ((ArrayNode) session.get("cookies")).addObject()
+                .put("name", name)
+                .put("value", "x")
+                .put("expiry", expiry.toEpochMilli());
+    }
+
+    private String msalEntry(long expiresOnSeconds) {
+        return objectMapper.createObjectNode()
+                .put("credentialType", "AccessToken")
+                .put("expiresOn", expiresOnSeconds)
+                .toString();
+    }
+
+    private static String jwt(long expSeconds) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString(("{\"sub\":\"monitor\",\"exp\":" + expSeconds + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + claims + ".signature";
+    }
+}
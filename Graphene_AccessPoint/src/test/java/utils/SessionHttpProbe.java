@@ -0,0 +1,220 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SessionHttpProbe checks a saved session with one plain HTTP request instead of a browser:
+ * the saved cookies that apply to the probe URL are replayed with redirects turned off and the
+ * response is classified.
+ *
+ * - 2xx: REDIRECT_TO_LOGIN when the page contains the login marker, otherwise VALID. Without a
+ *   session Testurl answers 200 with the Graphene user selection, so without a marker a 2xx
+ *   proves nothing and is UNREACHABLE
+ * - 3xx to a login/sign-in location: REDIRECT_TO_LOGIN; redirects within the probe host are followed
+ * - 401, 403, 440: EXPIRED
+ * - anything else, a redirect to another host, or no connection: UNREACHABLE, i.e. only a browser can tell
+ *
+ * Configuration (global.properties):
+ * session.probe.enabled         - probe saved sessions before using them (true)
+ * session.probe.url             - authenticated URL to request (Testurl)
+ * session.probe.timeout.seconds - connect and request timeout (10)
+ * session.probe.login.marker    - text that only the sign-in page contains (login-name, the Graphene user selection)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionHttpProbe {
+
+    private static final int MAX_REDIRECTS = 5;
+    private static final int MAX_BODY_BYTES = 256 * 1024;
+    // Class of the user name on the Graphene user selection page (see LoginPage.grapheneUserText)
+    private static final String DEFAULT_LOGIN_MARKER = "login-name";
+
+    /**
+     * Classification of a probed session.
+     */
+    public enum Result {
+        VALID,
+        EXPIRED,
+        REDIRECT_TO_LOGIN,
+        UNREACHABLE,
+        NO_SESSION
+    }
+
+    private final URI probeUrl;
+    private final Duration timeout;
+    private final String loginMarker;
+    private final HttpClient client;
+
+    public SessionHttpProbe(String probeUrl, Duration timeout, String loginMarker) {
+        this.probeUrl = URI.create(probeUrl.trim());
+        this.timeout = timeout;
+        this.loginMarker = loginMarker == null || loginMarker.isEmpty() ? null : loginMarker;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Creates a probe from global.properties.
+     *
+     * @return probe for session.probe.url, or Testurl when not set
+     */
+    public static SessionHttpProbe fromConfig() {
+        String url = ConfigReader.getProperty("session.probe.url", ConfigReader.getProperty("Testurl"));
+        return new SessionHttpProbe(url,
+                Duration.ofSeconds(ConfigReader.getInt("session.probe.timeout.seconds", 10)),
+                ConfigReader.getProperty("session.probe.login.marker", DEFAULT_LOGIN_MARKER));
+    }
+
+    /**
+     * Checks whether saved sessions should be probed (session.probe.enabled).
+     *
+     * @return true if the probe is switched on
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("session.probe.enabled", true);
+    }
+
+    /**
+     * Probes this thread's saved session (see {@link SessionManager#currentKey()}).
+     *
+     * @return probe result, NO_SESSION if nothing is saved
+     */
+    public static Result probeSavedSession() {
+        try {
+            JsonNode sessionData = SessionStore.getInstance().read(SessionManager.currentKey());
+            if (sessionData == null) {
+                return Result.NO_SESSION;
+            }
+            Result result = fromConfig().probe(sessionData);
+            System.out.println("Session probe for " + SessionManager.currentKey() + ": " + result);
+            return result;
+        } catch (IOException e) {
+            System.out.println("Could not read saved session for probe: " + e.getMessage());
+            return Result.NO_SESSION;
+        }
+    }
+
+    /**
+     * Deletes this thread's saved session if the server rejects it, so no browser restores a dead
+     * session. Sessions that are missing, already known to be expired or cannot be probed are left alone.
+     *
+     * @return probe result, NO_SESSION if nothing usable is saved
+     */
+    public static Result discardIfRejected() {
+        if (!SessionManager.assessSession().isUsable()) {
+            return Result.NO_SESSION;
+        }
+        Result result = probeSavedSession();
+        if (result == Result.EXPIRED || result == Result.REDIRECT_TO_LOGIN) {
+            System.out.println("❌ Saved session rejected by the server, it will not be restored");
+            SessionManager.clearStaleSession();
+        }
+        return result;
+    }
+
+    /**
+     * Replays the saved cookies against the probe URL and classifies the response.
+     *
+     * @param sessionData saved session (cookies array as written by {@link SessionManager})
+     * @return probe result
+     */
+    public Result probe(JsonNode sessionData) {
+        URI target = probeUrl;
+        try {
+            for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(target).timeout(timeout).GET();
+                String cookieHeader = cookieHeader(sessionData, target);
+                if (!cookieHeader.isEmpty()) {
+                    request.header("Cookie", cookieHeader);
+                }
+                HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+                int status = response.statusCode();
+                try (InputStream body = response.body()) {
+                    if (status >= 200 && status < 300) {
+                        if (loginMarker == null) {
+                            return Result.UNREACHABLE;
+                        }
+                        return readHead(body).contains(loginMarker) ? Result.REDIRECT_TO_LOGIN : Result.VALID;
+                    }
+                    if (status == 401 || status == 403 || status == 440) {
+                        return Result.EXPIRED;
+                    }
+                    if (status < 300 || status >= 400) {
+                        return Result.UNREACHABLE;
+                    }
+                }
+
+                String location = response.headers().firstValue("Location").orElse(null);
+                if (location == null) {
+                    return Result.UNREACHABLE;
+                }
+                URI next = target.resolve(location);
+                if (isLoginLocation(next)) {
+                    return Result.REDIRECT_TO_LOGIN;
+                }
+                if (next.getHost() == null || !next.getHost().equalsIgnoreCase(probeUrl.getHost())) {
+                    return Result.UNREACHABLE;
+                }
+                target = next;
+            }
+            return Result.UNREACHABLE;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Session probe could not reach " + target + ": " + e.getMessage());
+            return Result.UNREACHABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.UNREACHABLE;
+        }
+    }
+
+    private static boolean isLoginLocation(URI location) {
+        String host = location.getHost() == null ? "" : location.getHost().toLowerCase(Locale.ROOT);
+        String path = location.getPath() == null ? "" : location.getPath().toLowerCase(Locale.ROOT);
+        return host.startsWith("login.") || host.contains("microsoftonline")
+                || path.contains("login") || path.contains("signin") || path.contains("oauth2/authorize");
+    }
+
+    /**
+     * Builds the Cookie header a browser would send to the URL: domain and path match,
+     * secure cookies only over https, expired cookies left out.
+     */
+    static String cookieHeader(JsonNode sessionData, URI url) {
+        String host = url.getHost() == null ? "" : url.getHost().toLowerCase(Locale.ROOT);
+        String path = url.getPath() == null || url.getPath().isEmpty() ? "/" : url.getPath();
+        boolean https = "https".equalsIgnoreCase(url.getScheme());
+        long now = System.currentTimeMillis();
+
+        List<String> pairs = new ArrayList<>();
+        for (JsonNode cookie : sessionData.path("cookies")) {
+            String domain = cookie.path("domain").asText("").toLowerCase(Locale.ROOT);
+            String bareDomain = domain.startsWith(".") ? domain.substring(1) : domain;
+            boolean domainMatches = host.equals(bareDomain) || host.endsWith("." + bareDomain);
+            boolean pathMatches = path.startsWith(cookie.path("path").asText("/"));
+            boolean secureOk = https || !cookie.path("secure").asBoolean(false);
+            boolean notExpired = !cookie.has("expiry") || cookie.get("expiry").asLong() > now;
+            if (!bareDomain.isEmpty() && domainMatches && pathMatches && secureOk && notExpired) {
+                pairs.add(cookie.path("name").asText() + "=" + cookie.path("value").asText());
+            }
+        }
+        return String.join("; ", pairs);
+    }
+
+    private static String readHead(InputStream body) throws IOException {
+        return new String(body.readNBytes(MAX_BODY_BYTES), StandardCharsets.UTF_8);
+    }
+}
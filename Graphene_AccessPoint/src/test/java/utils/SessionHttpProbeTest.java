@@ -0,0 +1,148 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * SessionHttpProbeTest - Checks the session probe against a local stub server, no browser or portal needed.
+ *
+ * The stub answers like the portal would:
+ * /app      200 with the ESTSAUTH cookie, otherwise a redirect to the Microsoft login
+ * /expired  401
+ * /hop      same-host redirect to /app
+ * /away     redirect to /app on another host name
+ * /signin   200 sign-in page
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionHttpProbeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/app", exchange -> {
+            String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+            if (cookies != null && cookies.contains("ESTSAUTH=ok")) {
+                respond(exchange, 200, "<span>Access Point</span>");
+            } else {
+                exchange.getResponseHeaders().add("Location", "https://login.microsoftonline.com/common/oauth2/authorize");
+                respond(exchange, 302, "");
+            }
+        });
+        server.createContext("/expired", exchange -> respond(exchange, 401, ""));
+        server.createContext("/hop", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/app");
+            respond(exchange, 302, "");
+        });
+        server.createContext("/away", exchange -> {
+            exchange.getResponseHeaders().add("Location", "http://localhost:" + server.getAddress().getPort() + "/app");
+            respond(exchange, 302, "");
+        });
+        server.createContext("/signin", exchange -> respond(exchange, 200, "<p class='login-name'>Graphene User</p>"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        System.out.println("🧪 Stub portal started at " + baseUrl);
+    }
+
+    @AfterClass
+    public void stopStub() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void validSessionIsAccepted() throws IOException {
+        Assert.assertEquals(probe("/app").probe(session("ok", null)), SessionHttpProbe.Result.VALID);
+    }
+
+    @Test
+    public void okWithoutMarkerProvesNothing() throws IOException {
+        SessionHttpProbe probe = new SessionHttpProbe(baseUrl + "/app", Duration.ofSeconds(5), "");
+        Assert.assertEquals(probe.probe(session("ok", null)), SessionHttpProbe.Result.UNREACHABLE);
+    }
+
+    @Test
+    public void redirectToAnotherHostIsNotFollowed() throws IOException {
+        Assert.assertEquals(probe("/away").probe(session("ok", null)), SessionHttpProbe.Result.UNREACHABLE);
+    }
+
+    @Test
+    public void missingCookieRedirectsToLogin() throws IOException {
+        Assert.assertEquals(probe("/app").probe(session("other", null)), SessionHttpProbe.Result.REDIRECT_TO_LOGIN);
+    }
+
+    @Test
+    public void expiredCookieIsNotReplayed() throws IOException {
+        long yesterday = System.currentTimeMillis() - Duration.ofDays(1).toMillis();
+        Assert.assertEquals(probe("/app").probe(session("ok", yesterday)), SessionHttpProbe.Result.REDIRECT_TO_LOGIN);
+    }
+
+    @Test
+    public void unauthorizedIsExpired() throws IOException {
+        Assert.assertEquals(probe("/expired").probe(session("ok", null)), SessionHttpProbe.Result.EXPIRED);
+    }
+
+    @Test
+    public void sameSiteRedirectIsFollowed() throws IOException {
+        Assert.assertEquals(probe("/hop").probe(session("ok", null)), SessionHttpProbe.Result.VALID);
+    }
+
+    @Test
+    public void loginMarkerMarksSignInPage() throws IOException {
+        Assert.assertEquals(probe("/signin").probe(session("ok", null)), SessionHttpProbe.Result.REDIRECT_TO_LOGIN);
+    }
+
+    @Test
+    public void closedPortIsUnreachable() throws IOException {
+        SessionHttpProbe probe = new SessionHttpProbe("http://127.0.0.1:1/app", Duration.ofSeconds(2), "login-name");
+        Assert.assertEquals(probe.probe(session("ok", null)), SessionHttpProbe.Result.UNREACHABLE);
+    }
+
+    @Test
+    public void cookieHeaderMatchesDomainAndPath() throws IOException {
+        JsonNode data = objectMapper.readTree("{\"cookies\":["
+                + "{\"name\":\"a\",\"value\":\"1\",\"domain\":\".example.com\",\"path\":\"/\"},"
+                + "{\"name\":\"b\",\"value\":\"2\",\"domain\":\"other.com\",\"path\":\"/\"},"
+                + "{\"name\":\"c\",\"value\":\"3\",\"domain\":\"sso.example.com\",\"path\":\"/Home\",\"secure\":true},"
+                + "{\"name\":\"d\",\"value\":\"4\",\"domain\":\"sso.example.com\",\"path\":\"/Admin\"}]}");
+        Assert.assertEquals(SessionHttpProbe.cookieHeader(data, URI.create("https://sso.example.com/Home/Index")), "a=1; c=3");
+        Assert.assertEquals(SessionHttpProbe.cookieHeader(data, URI.create("http://sso.example.com/Home/Index")), "a=1");
+    }
+
+    private SessionHttpProbe probe(String path) {
+        return new SessionHttpProbe(baseUrl + path, Duration.ofSeconds(5), "login-name");
+    }
+
+    private JsonNode session(String authValue, Long expiry) throws IOException {
+        String expiryField = expiry == null ? "" : ",\"expiry\":" + expiry;
+        return objectMapper.readTree("{\"cookies\":[{\"name\":\"ESTSAUTH\",\"value\":\"" + authValue
+                + "\",\"domain\":\"127.0.0.1\",\"path\":\"/\"" + expiryField + "}]}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
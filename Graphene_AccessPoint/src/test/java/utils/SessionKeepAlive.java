@@ -0,0 +1,165 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pageObject.BasePage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionKeepAlive refreshes saved logins before they expire, so a long monitoring run never
+ * falls back to an interactive login with mobile PIN approval.
+ *
+ * A daemon thread checks the saved sessions every few minutes. When a session's first cookie or
+ * token expires within the lead time, a dedicated headless browser restores the session and loads
+ * Testurl; the portal's sign-in silently renews the tokens, and the renewed session is saved back
+ * to the {@link SessionStore}. Sessions that have already expired are left for the next login.
+ *
+ * Configuration (global.properties):
+ * session.keepalive.enabled       - start the keep-alive thread (false)
+ * session.keepalive.check.seconds - interval between expiry checks (300)
+ * session.keepalive.lead.seconds  - refresh when a session expires within this time (900)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionKeepAlive {
+
+    private static volatile SessionKeepAlive instance;
+
+    // Users whose sessions are watched; null stands for UserName from global.properties
+    private final Set<String> users = ConcurrentHashMap.newKeySet();
+    private final Duration lead;
+    private final ScheduledExecutorService scheduler;
+
+    private SessionKeepAlive(Duration checkInterval, Duration lead) {
+        this.lead = lead;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-keepalive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the keep-alive thread is switched on (session.keepalive.enabled).
+     *
+     * @return true if sessions should be refreshed in the background
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("session.keepalive.enabled", false);
+    }
+
+    /**
+     * Starts the keep-alive thread for the default user if it is enabled and not running yet.
+     */
+    public static void startIfEnabled() {
+        if (!isEnabled() || instance != null) {
+            return;
+        }
+        synchronized (SessionKeepAlive.class) {
+            if (instance == null) {
+                instance = new SessionKeepAlive(
+                        Duration.ofSeconds(ConfigReader.getInt("session.keepalive.check.seconds", 300)),
+                        Duration.ofSeconds(ConfigReader.getInt("session.keepalive.lead.seconds", 900)));
+                System.out.println("🔄 Session keep-alive started");
+            }
+        }
+    }
+
+    /**
+     * Adds a user whose saved session should be kept alive. No effect when the thread is not running.
+     *
+     * @param user login name
+     */
+    public static void watch(String user) {
+        SessionKeepAlive keepAlive = instance;
+        if (keepAlive != null && user != null) {
+            keepAlive.users.add(user);
+        }
+    }
+
+    /**
+     * Stops the keep-alive thread if it was started.
+     */
+    public static void stopIfStarted() {
+        synchronized (SessionKeepAlive.class) {
+            if (instance != null) {
+                instance.scheduler.shutdownNow();
+                instance = null;
+                System.out.println("Session keep-alive stopped");
+            }
+        }
+    }
+
+    private void checkAll() {
+        // One check per saved session: the default user may also be watched by name
+        Map<String, String> userByKey = new LinkedHashMap<>();
+        userByKey.put(SessionManager.keyFor(null), null);
+        for (String user : users) {
+            userByKey.putIfAbsent(SessionManager.keyFor(user), user);
+        }
+        userByKey.values().forEach(this::check);
+    }
+
+    private void check(String user) {
+        SessionManager.useAccount(user);
+        try {
+            SessionManager.SessionAssessment assessment = SessionManager.assessSession();
+            Instant expiry = assessment.getEarliestExpiry();
+            if (assessment.getStatus() == SessionManager.SessionStatus.MISSING || expiry == null) {
+                return;
+            }
+            if (assessment.getStatus() == SessionManager.SessionStatus.EXPIRED) {
+                System.out.println("⚠️ Session " + SessionManager.currentKey() + " already expired, it needs a new login");
+                return;
+            }
+            if (expiry.isAfter(Instant.now().plus(lead))) {
+                return;
+            }
+            refresh(assessment);
+        } catch (Exception e) {
+            // Never let one failed refresh cancel the schedule
+            System.out.println("⚠️ Session keep-alive failed for " + SessionManager.currentKey() + ": " + e.getMessage());
+        } finally {
+            SessionManager.useAccount(null);
+        }
+    }
+
+    private void refresh(SessionManager.SessionAssessment before) throws Exception {
+        String key = SessionManager.currentKey();
+        System.out.println("🔄 Refreshing session " + key + " (expires " + before.getEarliestExpiry() + ")");
+        WebDriver driver = TestBase.createDriver(true);
+        try {
+            String appUrl = ConfigReader.getProperty("Testurl");
+            driver.get(appUrl);
+            if (!SessionManager.loadSessionState(driver)) {
+                return;
+            }
+            driver.get(appUrl);
+
+            // The portal only renders once the silent sign-in has renewed the tokens
+            new WaitEngine(driver, Duration.ofSeconds(60))
+                    .until(ExpectedConditions.presenceOfElementLocated(BasePage.accessPointText));
+            SessionManager.saveSessionState(driver);
+
+            SessionManager.SessionAssessment after = SessionManager.assessSession();
+            if (after.getEarliestExpiry() != null && after.getEarliestExpiry().isAfter(before.getEarliestExpiry())) {
+                System.out.println("✅ Session " + key + " refreshed, now expires " + after.getEarliestExpiry());
+            } else {
+                System.out.println("⚠️ Session " + key + " saved but its expiry did not move: " + after);
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package utils;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.ConverterFunctions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * SessionManager handles saving and loading browser session data (cookies, localStorage, sessionStorage)
@@ -19,13 +36,98 @@ import java.util.Set;
  * 
  * This class provides functionality similar to Playwright's storage_state() method.
  * 
+ * {@link #assessSession()} decides from the saved file alone, without a browser, whether the
+ * session can still be used: it reads the expiry of the auth cookies and of the tokens kept in
+ * localStorage/sessionStorage (MSAL expiresOn, JWT exp claims).
+ * 
+ * Sessions are kept per user and environment in a {@link SessionStore}; the user is the one set
+ * with {@link #useAccount(String)} on this thread, UserName otherwise, and the environment is
+ * the host of Testurl.
+ * 
+ * Configuration (global.properties):
+ * session.expiry.skew.seconds - a token expiring within this margin counts as expired (300)
+ * 
  * @author SreeHarsha
  * @version 1.0
  */
 public class SessionManager {
     
-    private static final String SESSION_FILE_PATH = System.getProperty("user.dir") + "/src/test/java/resources/auth-session.json";
+    // Single-file location used before sessions were kept per user and environment
+    private static final String LEGACY_SESSION_FILE_PATH = System.getProperty("user.dir") + "/src/test/java/resources/auth-session.json";
+    private static final SessionStore store = SessionStore.getInstance();
+    private static final InheritableThreadLocal<String> account = new InheritableThreadLocal<>();
+    private static final ThreadLocal<String> lastReadSavedAt = new ThreadLocal<>();
+    // Identifier of the storage restore script registered on each browser, so a later restore replaces it
+    private static final Map<WebDriver, String> restoreScripts = Collections.synchronizedMap(new WeakHashMap<>());
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Pattern JWT = Pattern.compile("^[A-Za-z0-9_-]+\\.([A-Za-z0-9_-]+)\\.[A-Za-z0-9_-]*$");
+    
+    /**
+     * Outcome of the offline session check.
+     */
+    public enum SessionStatus {
+        /** Every dated auth cookie and token is valid beyond the skew margin */
+        FRESH,
+        /** Every dated auth cookie and token has expired */
+        EXPIRED,
+        /** Nothing dated was found, or some parts have expired - only the browser can tell */
+        UNKNOWN,
+        /** No saved session, or the file could not be read */
+        MISSING
+    }
+    
+    /**
+     * Makes this thread (and the threads it starts) save and load the session of the given user.
+     * 
+     * @param user login name, or null to go back to UserName from global.properties
+     */
+    public static void useAccount(String user) {
+        if (user == null) {
+            account.remove();
+        } else {
+            account.set(user);
+        }
+    }
+    
+    /**
+     * @return store key of the session used by this thread
+     */
+    public static String currentKey() {
+        return keyFor(account.get());
+    }
+    
+    /**
+     * @param user login name, or null for UserName from global.properties
+     * @return store key of that user's session in the current environment
+     */
+    public static String keyFor(String user) {
+        return SessionStore.key(user == null ? ConfigReader.getProperty("UserName") : user, ConfigReader.getProperty("Testurl"));
+    }
+    
+    /**
+     * The legacy auth-session.json belongs to UserName from global.properties, whether or not a
+     * login has named that user explicitly through {@link #useAccount}.
+     */
+    private static boolean isDefaultUser(String key) {
+        return key.equals(keyFor(null));
+    }
+    
+    /**
+     * Reads this thread's saved session, taking over the legacy auth-session.json for the default user.
+     */
+    private static JsonNode readSession() throws IOException {
+        String key = currentKey();
+        JsonNode data = store.read(key);
+        File legacy = new File(LEGACY_SESSION_FILE_PATH);
+        if (data == null && isDefaultUser(key) && legacy.exists()) {
+            data = objectMapper.readTree(legacy);
+            store.write(key, data);
+            System.out.println("Session moved from " + legacy.getName() + " to: " + store.pathOf(key));
+            legacy.delete();
+        }
+        lastReadSavedAt.set(data == null ? null : data.path("savedAt").asText(null));
+        return data;
+    }
     
     /**
      * Saves the current browser session state (cookies, localStorage, sessionStorage) to a JSON file.
@@ -37,26 +139,20 @@ public class SessionManager {
     public static void saveSessionState(WebDriver driver) throws IOException {
         ObjectNode sessionData = objectMapper.createObjectNode();
         
-        // Save cookies
-        ArrayNode cookiesArray = objectMapper.createArrayNode();
-        Set<Cookie> cookies = driver.manage().getCookies();
-        
-        for (Cookie cookie : cookies) {
-            ObjectNode cookieNode = objectMapper.createObjectNode();
-            cookieNode.put("name", cookie.getName());
-            cookieNode.put("value", cookie.getValue());
-            cookieNode.put("domain", cookie.getDomain());
-            cookieNode.put("path", cookie.getPath());
-            cookieNode.put("secure", cookie.isSecure());
-            cookieNode.put("httpOnly", cookie.isHttpOnly());
-            
-            if (cookie.getExpiry() != null) {
-                cookieNode.put("expiry", cookie.getExpiry().getTime());
-            }
-            
-            cookiesArray.add(cookieNode);
+        // Save cookies of every domain (Microsoft login included) where DevTools is available
+        ArrayNode cookiesArray = captureCookiesWithDevTools(driver);
+        if (cookiesArray == null) {
+            cookiesArray = captureCookies(driver);
         }
         sessionData.set("cookies", cookiesArray);
+        sessionData.put("savedAt", System.currentTimeMillis());
+        
+        // Origin the web storage below belongs to, so a restore only applies it there
+        try {
+            sessionData.put("origin", String.valueOf(((JavascriptExecutor) driver).executeScript("return window.location.origin;")));
+        } catch (Exception e) {
+            System.out.println("Could not read page origin: " + e.getMessage());
+        }
         
         // Save localStorage
         try {
@@ -68,7 +164,7 @@ public class SessionManager {
                 "} " +
                 "return localStorage;";
             
-            Object localStorageData = ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(localStorageScript);
+            Object localStorageData = ((JavascriptExecutor) driver).executeScript(localStorageScript);
             sessionData.set("localStorage", objectMapper.valueToTree(localStorageData));
         } catch (Exception e) {
             System.out.println("Could not save localStorage: " + e.getMessage());
@@ -84,40 +180,116 @@ public class SessionManager {
                 "} " +
                 "return sessionStorage;";
             
-            Object sessionStorageData = ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(sessionStorageScript);
+            Object sessionStorageData = ((JavascriptExecutor) driver).executeScript(sessionStorageScript);
             sessionData.set("sessionStorage", objectMapper.valueToTree(sessionStorageData));
         } catch (Exception e) {
             System.out.println("Could not save sessionStorage: " + e.getMessage());
         }
         
-        // Create directories if they don't exist
-        Path sessionFilePath = Paths.get(SESSION_FILE_PATH);
-        Files.createDirectories(sessionFilePath.getParent());
-        
-        // Write session data to file
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(SESSION_FILE_PATH), sessionData);
-        System.out.println("Session state saved to: " + SESSION_FILE_PATH);
+        // Write session data atomically, readers never see a partial file
+        String key = currentKey();
+        store.write(key, sessionData);
+        System.out.println("Session state saved to: " + store.pathOf(key));
+    }
+    
+    /**
+     * Reads the cookies of all domains with one CDP Network.getAllCookies call, in the format
+     * {@link #restoreWithDevTools} writes back (expiry in epoch milliseconds, none for session cookies).
+     * 
+     * @return saved cookie nodes, or null if the browser has no DevTools or the call failed
+     */
+    @SuppressWarnings("unchecked")
+    private static ArrayNode captureCookiesWithDevTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            Map<String, Object> response = devTools.send(new Command<Map<String, Object>>("Network.getAllCookies", Map.of(), Map.class));
+            ArrayNode cookiesArray = objectMapper.createArrayNode();
+            for (Map<String, Object> cookie : (List<Map<String, Object>>) response.get("cookies")) {
+                ObjectNode cookieNode = objectMapper.createObjectNode();
+                cookieNode.put("name", String.valueOf(cookie.get("name")));
+                cookieNode.put("value", String.valueOf(cookie.get("value")));
+                cookieNode.put("domain", String.valueOf(cookie.get("domain")));
+                cookieNode.put("path", cookie.get("path") == null ? "/" : String.valueOf(cookie.get("path")));
+                cookieNode.put("secure", Boolean.TRUE.equals(cookie.get("secure")));
+                cookieNode.put("httpOnly", Boolean.TRUE.equals(cookie.get("httpOnly")));
+                Object expires = cookie.get("expires");
+                if (!Boolean.TRUE.equals(cookie.get("session")) && expires instanceof Number && ((Number) expires).doubleValue() > 0) {
+                    cookieNode.put("expiry", (long) (((Number) expires).doubleValue() * 1000));
+                }
+                if (cookie.get("sameSite") != null) {
+                    cookieNode.put("sameSite", String.valueOf(cookie.get("sameSite")));
+                }
+                cookiesArray.add(cookieNode);
+            }
+            return cookiesArray;
+        } catch (Exception e) {
+            System.out.println("CDP cookie capture unavailable, saving current domain cookies: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Reads the current domain's cookies through WebDriver.
+     */
+    private static ArrayNode captureCookies(WebDriver driver) {
+        ArrayNode cookiesArray = objectMapper.createArrayNode();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            ObjectNode cookieNode = objectMapper.createObjectNode();
+            cookieNode.put("name", cookie.getName());
+            cookieNode.put("value", cookie.getValue());
+            cookieNode.put("domain", cookie.getDomain());
+            cookieNode.put("path", cookie.getPath());
+            cookieNode.put("secure", cookie.isSecure());
+            cookieNode.put("httpOnly", cookie.isHttpOnly());
+            
+            if (cookie.getExpiry() != null) {
+                cookieNode.put("expiry", cookie.getExpiry().getTime());
+            }
+            if (cookie.getSameSite() != null) {
+                cookieNode.put("sameSite", cookie.getSameSite());
+            }
+            
+            cookiesArray.add(cookieNode);
+        }
+        return cookiesArray;
     }
     
     /**
      * Loads previously saved session state and applies it to the current browser session.
      * This should be called before navigating to the application URL.
      * 
+     * On Chrome all cookies, for every domain, are set with one CDP Network.setCookies call and
+     * the web storage is restored by one script that runs when the saved origin is next loaded,
+     * so nothing is navigated. Other browsers fall back to setting cookies through WebDriver.
+     * 
      * @param driver WebDriver instance to apply session to
      * @return true if session was loaded successfully, false otherwise
      */
     public static boolean loadSessionState(WebDriver driver) {
         try {
-            File sessionFile = new File(SESSION_FILE_PATH);
-            if (!sessionFile.exists()) {
-                System.out.println("No saved session found at: " + SESSION_FILE_PATH);
+            long start = System.currentTimeMillis();
+            JsonNode sessionData = readSession();
+            Path sessionFile = store.pathOf(currentKey());
+            if (sessionData == null) {
+                System.out.println("No saved session found at: " + sessionFile);
                 return false;
             }
             
-            ObjectNode sessionData = (ObjectNode) objectMapper.readTree(sessionFile);
+            String marker = sessionData.has("savedAt") ? sessionData.get("savedAt").asText() : String.valueOf(Files.getLastModifiedTime(sessionFile).toMillis());
+            
+            if (restoreWithDevTools(driver, sessionData, marker)) {
+                System.out.println("Session state restored via CDP in " + (System.currentTimeMillis() - start)
+                        + " ms from: " + sessionFile);
+                return true;
+            }
             
             // First navigate to the domain to set cookies
             driver.get("https://login.microsoftonline.com/");
+            driver.manage().deleteAllCookies();
             
             // Load cookies
             if (sessionData.has("cookies")) {
@@ -154,37 +326,14 @@ public class SessionManager {
                 }
             }
             
-            // Load localStorage
-            if (sessionData.has("localStorage")) {
-                ObjectNode localStorage = (ObjectNode) sessionData.get("localStorage");
-                localStorage.fieldNames().forEachRemaining(key -> {
-                    String value = localStorage.get(key).asText();
-                    String script = String.format("window.localStorage.setItem('%s', '%s');", 
-                        key.replace("'", "\\'"), value.replace("'", "\\'"));
-                    try {
-                        ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(script);
-                    } catch (Exception e) {
-                        System.out.println("Could not set localStorage item: " + key + " - " + e.getMessage());
-                    }
-                });
-            }
-            
-            // Load sessionStorage
-            if (sessionData.has("sessionStorage")) {
-                ObjectNode sessionStorage = (ObjectNode) sessionData.get("sessionStorage");
-                sessionStorage.fieldNames().forEachRemaining(key -> {
-                    String value = sessionStorage.get(key).asText();
-                    String script = String.format("window.sessionStorage.setItem('%s', '%s');", 
-                        key.replace("'", "\\'"), value.replace("'", "\\'"));
-                    try {
-                        ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(script);
-                    } catch (Exception e) {
-                        System.out.println("Could not set sessionStorage item: " + key + " - " + e.getMessage());
-                    }
-                });
+            // Load localStorage and sessionStorage into the current origin with one script
+            try {
+                ((JavascriptExecutor) driver).executeScript(storageRestoreScript(sessionData, null, marker));
+            } catch (Exception e) {
+                System.out.println("Could not restore web storage: " + e.getMessage());
             }
             
-            System.out.println("Session state loaded successfully from: " + SESSION_FILE_PATH);
+            System.out.println("Session state loaded successfully from: " + sessionFile);
             return true;
             
         } catch (Exception e) {
@@ -193,13 +342,117 @@ public class SessionManager {
         }
     }
     
+    /**
+     * Replaces all cookies with a single CDP Network.setCookies call and registers the storage restore
+     * script for new documents, replacing the one of an earlier restore. Nothing is navigated.
+     * 
+     * @return true if restored, false if the browser has no DevTools or a CDP call failed
+     */
+    private static boolean restoreWithDevTools(WebDriver driver, JsonNode sessionData, String marker) {
+        if (!(driver instanceof HasDevTools)) {
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (JsonNode cookieNode : sessionData.path("cookies")) {
+                if (!cookieNode.hasNonNull("domain")) {
+                    // CDP needs a domain or URL for every cookie
+                    continue;
+                }
+                Map<String, Object> cookie = new HashMap<>();
+                cookie.put("name", cookieNode.get("name").asText());
+                cookie.put("value", cookieNode.get("value").asText());
+                cookie.put("domain", cookieNode.get("domain").asText());
+                cookie.put("path", cookieNode.path("path").asText("/"));
+                cookie.put("secure", cookieNode.path("secure").asBoolean(false));
+                cookie.put("httpOnly", cookieNode.path("httpOnly").asBoolean(false));
+                if (cookieNode.has("expiry")) {
+                    cookie.put("expires", cookieNode.get("expiry").asLong() / 1000.0);
+                }
+                if (cookieNode.hasNonNull("sameSite")) {
+                    cookie.put("sameSite", cookieNode.get("sameSite").asText());
+                }
+                cookies.add(cookie);
+            }
+            // A pooled browser may still hold another account's cookies; replace the whole jar
+            devTools.send(new Command<>("Network.clearBrowserCookies", Map.of()));
+            devTools.send(new Command<>("Network.setCookies", Map.of("cookies", cookies)));
+            
+            // Older session files have no origin; their storage was captured on Testurl
+            String origin = sessionData.hasNonNull("origin") ? sessionData.get("origin").asText() : originOf(ConfigReader.getProperty("Testurl"));
+            removeRestoreScript(driver);
+            if (origin != null) {
+                devTools.send(new Command<>("Page.enable", Map.of()));
+                String identifier = devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", storageRestoreScript(sessionData, origin, marker)),
+                        ConverterFunctions.map("identifier", String.class)));
+                restoreScripts.put(driver, identifier);
+            }
+            return true;
+        } catch (Exception e) {
+            System.out.println("CDP session restore unavailable, falling back to WebDriver cookies: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Unregisters the storage restore script of the last CDP restore, so new documents no longer
+     * replay that session's storage (e.g. before a pooled browser is handed to another scenario).
+     *
+     * @param driver browser the session was restored into
+     */
+    public static void removeRestoreScript(WebDriver driver) {
+        String identifier = restoreScripts.remove(driver);
+        if (identifier == null || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Page.removeScriptToEvaluateOnNewDocument", Map.of("identifier", identifier)));
+        } catch (Exception e) {
+            System.out.println("Could not remove session restore script: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Builds one script that writes all saved localStorage and sessionStorage keys. With an origin
+     * it only runs on pages of that origin. A marker key makes it run once per saved session, so
+     * tokens the portal refreshes later are not overwritten on the next page load.
+     */
+    private static String storageRestoreScript(JsonNode sessionData, String origin, String marker) throws IOException {
+        return "(function (origin, marker, local, session) {" +
+                "  if (origin && location.origin !== origin) { return; }" +
+                "  function restore(storage, items) {" +
+                "    if (storage.getItem('__sessionRestore') === marker) { return; }" +
+                "    Object.keys(items).forEach(function (key) { storage.setItem(key, items[key]); });" +
+                "    storage.setItem('__sessionRestore', marker);" +
+                "  }" +
+                "  try { restore(window.localStorage, local); restore(window.sessionStorage, session); } catch (e) {}" +
+                "})(" + objectMapper.writeValueAsString(origin) + ", " + objectMapper.writeValueAsString(marker) + ", " +
+                objectMapper.writeValueAsString(sessionData.path("localStorage").isObject() ? sessionData.get("localStorage") : objectMapper.createObjectNode()) + ", " +
+                objectMapper.writeValueAsString(sessionData.path("sessionStorage").isObject() ? sessionData.get("sessionStorage") : objectMapper.createObjectNode()) + ");";
+    }
+    
+    private static String originOf(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+    }
+    
     /**
      * Checks if a saved session file exists.
      * 
      * @return true if session file exists, false otherwise
      */
     public static boolean sessionExists() {
-        return new File(SESSION_FILE_PATH).exists();
+        String key = currentKey();
+        return store.exists(key) || (isDefaultUser(key) && new File(LEGACY_SESSION_FILE_PATH).exists());
     }
     
     /**
@@ -207,10 +460,191 @@ public class SessionManager {
      * Use this to force a fresh login.
      */
     public static void clearSession() {
-        File sessionFile = new File(SESSION_FILE_PATH);
-        if (sessionFile.exists()) {
-            sessionFile.delete();
-            System.out.println("Session file deleted: " + SESSION_FILE_PATH);
+        deleteSession(null);
+    }
+    
+    /**
+     * Deletes the saved session this thread last read and found unusable. A session another worker
+     * has saved since then is kept, so parallel scenarios do not throw away each other's fresh login.
+     */
+    public static void clearStaleSession() {
+        deleteSession(lastReadSavedAt.get());
+    }
+    
+    private static void deleteSession(String expectedSavedAt) {
+        String key = currentKey();
+        try {
+            if (store.delete(key, expectedSavedAt)) {
+                System.out.println("Session file deleted: " + store.pathOf(key));
+            }
+        } catch (IOException e) {
+            System.out.println("Could not delete session " + key + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Decides offline, from the saved session file, whether the session can still be used.
+     * 
+     * @return assessment with the status and the earliest/latest expiry found
+     */
+    public static SessionAssessment assessSession() {
+        try {
+            JsonNode sessionData = readSession();
+            if (sessionData == null) {
+                return new SessionAssessment(SessionStatus.MISSING, null, null);
+            }
+            return assess(sessionData, Instant.now());
+        } catch (IOException e) {
+            System.out.println("Could not read saved session: " + e.getMessage());
+            return new SessionAssessment(SessionStatus.MISSING, null, null);
+        }
+    }
+    
+    /**
+     * Assesses saved session data against a point in time.
+     * 
+     * @param sessionData parsed session file
+     * @param now time to compare the expiries with
+     * @return assessment with the status and the earliest/latest expiry found
+     */
+    static SessionAssessment assess(JsonNode sessionData, Instant now) {
+        Instant validUntil = now.plusSeconds(ConfigReader.getInt("session.expiry.skew.seconds", 300));
+        Instant earliest = null;
+        Instant latest = null;
+        int valid = 0;
+        int expired = 0;
+        
+        for (Instant expiry : collectExpiries(sessionData)) {
+            earliest = earliest == null || expiry.isBefore(earliest) ? expiry : earliest;
+            latest = latest == null || expiry.isAfter(latest) ? expiry : latest;
+            if (expiry.isAfter(validUntil)) {
+                valid++;
+            } else {
+                expired++;
+            }
+        }
+        
+        SessionStatus status;
+        if (valid == 0 && expired == 0) {
+            status = SessionStatus.UNKNOWN;
+        } else if (expired == 0) {
+            status = SessionStatus.FRESH;
+        } else if (valid == 0) {
+            status = SessionStatus.EXPIRED;
+        } else {
+            status = SessionStatus.UNKNOWN;
+        }
+        return new SessionAssessment(status, earliest, latest);
+    }
+    
+    private static List<Instant> collectExpiries(JsonNode sessionData) {
+        List<Instant> expiries = new ArrayList<>();
+        
+        // Auth cookies with an expiry (session cookies without one live as long as the browser)
+        JsonNode cookies = sessionData.path("cookies");
+        for (JsonNode cookie : cookies) {
+            if (isAuthName(cookie.path("name").asText()) && cookie.has("expiry")) {
+                expiries.add(Instant.ofEpochMilli(cookie.get("expiry").asLong()));
+            }
+        }
+        
+        // Tokens in web storage: MSAL cache entries carry expiresOn, raw JWTs carry an exp claim
+        for (String storage : new String[]{"localStorage", "sessionStorage"}) {
+            Iterator<Map.Entry<String, JsonNode>> entries = sessionData.path(storage).fields();
+            while (entries.hasNext()) {
+                Instant expiry = tokenExpiry(entries.next().getValue().asText());
+                if (expiry != null) {
+                    expiries.add(expiry);
+                }
+            }
+        }
+        return expiries;
+    }
+    
+    private static boolean isAuthName(String name) {
+        String lower = name.toLowerCase();
+        return lower.contains("auth") || lower.contains("session") || lower.contains("token");
+    }
+    
+    private static Instant tokenExpiry(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (JWT.matcher(value).matches()) {
+            return jwtExpiry(value);
+        }
+        if (!value.startsWith("{")) {
+            return null;
+        }
+        try {
+            JsonNode entry = objectMapper.readTree(value);
+            if (entry.hasNonNull("expiresOn")) {
+                return Instant.ofEpochSecond(entry.get("expiresOn").asLong());
+            }
+            if (entry.hasNonNull("secret") && JWT.matcher(entry.get("secret").asText()).matches()) {
+                return jwtExpiry(entry.get("secret").asText());
+            }
+        } catch (IOException e) {
+            // Not JSON after all - not a token entry
+        }
+        return null;
+    }
+    
+    private static Instant jwtExpiry(String jwt) {
+        try {
+            Matcher matcher = JWT.matcher(jwt);
+            if (!matcher.matches()) {
+                return null;
+            }
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(matcher.group(1)));
+            return claims.hasNonNull("exp") ? Instant.ofEpochSecond(claims.get("exp").asLong()) : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Result of {@link #assessSession()}.
+     */
+    public static class SessionAssessment {
+        private final SessionStatus status;
+        private final Instant earliestExpiry;
+        private final Instant latestExpiry;
+        
+        SessionAssessment(SessionStatus status, Instant earliestExpiry, Instant latestExpiry) {
+            this.status = status;
+            this.earliestExpiry = earliestExpiry;
+            this.latestExpiry = latestExpiry;
+        }
+        
+        public SessionStatus getStatus() {
+            return status;
+        }
+        
+        /**
+         * @return true if the saved session is worth restoring (FRESH or UNKNOWN)
+         */
+        public boolean isUsable() {
+            return status == SessionStatus.FRESH || status == SessionStatus.UNKNOWN;
+        }
+        
+        /**
+         * @return expiry of the first cookie or token to expire, null if none is dated
+         */
+        public Instant getEarliestExpiry() {
+            return earliestExpiry;
+        }
+        
+        /**
+         * @return expiry of the last cookie or token to expire, null if none is dated
+         */
+        public Instant getLatestExpiry() {
+            return latestExpiry;
+        }
+        
+        @Override
+        public String toString() {
+            return status + (earliestExpiry == null ? "" : " (expires " + earliestExpiry + " .. " + latestExpiry + ")");
         }
     }
     
@@ -83,7 +83,7 @@ public class SessionSetupTool {
         System.setProperty("webdriver.chrome.driver", System.getProperty("user.dir") + "//src/test//resource//chromedriver.exe");
         driver = new ChromeDriver(options);
         
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+        WaitEngine.setImplicitWait(driver, Duration.ofSeconds(10));
         driver.manage().window().maximize();
         
         loginPage = new CiplaContractManagementPage(driver);
@@ -0,0 +1,250 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SessionStore keeps one saved login per user and environment, safe to share between parallel
+ * scenarios and between JVMs (e.g. parallel Maven runs).
+ *
+ * - Writes go to a temp file in the same directory and are renamed over the session file with
+ *   ATOMIC_MOVE, so a reader sees either the old or the new session, never a half-written file.
+ * - Reads, writes and deletes hold a lock on a sidecar .lock file: shared for reads, exclusive for
+ *   writes and deletes. File locks are held per JVM and overlapping locks from two threads throw,
+ *   so threads of this JVM first take an exclusive per-key lock and only one of them holds the
+ *   file lock at a time.
+ * - Parsed sessions are cached and reused until the file changes on disk (modified time, size or
+ *   file identity), so most reads cost one stat instead of a JSON parse.
+ *
+ * Configuration (global.properties):
+ * session.store.dir - directory of the session files (src/test/java/resources/sessions)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionStore {
+
+    private static volatile SessionStore instance;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    SessionStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static SessionStore getInstance() {
+        if (instance == null) {
+            synchronized (SessionStore.class) {
+                if (instance == null) {
+                    String dir = ConfigReader.getProperty("session.store.dir", "src/test/java/resources/sessions");
+                    File file = new File(dir).isAbsolute() ? new File(dir) : new File(System.getProperty("user.dir"), dir);
+                    instance = new SessionStore(file.toPath());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Builds the store key of a user's session on an environment.
+     *
+     * @param user login name
+     * @param environmentUrl any URL of the environment, e.g. Testurl
+     * @return key such as "user_company.com@sso.example.com"
+     */
+    public static String key(String user, String environmentUrl) {
+        String host = "default";
+        if (environmentUrl != null && !environmentUrl.isEmpty()) {
+            String parsed = URI.create(environmentUrl.trim()).getHost();
+            host = parsed == null ? host : parsed;
+        }
+        String name = user == null || user.isEmpty() ? "anonymous" : user.trim().toLowerCase();
+        return (name.replace("@", "_") + "@" + host).replaceAll("[^A-Za-z0-9@._-]", "_");
+    }
+
+    /**
+     * @param key session key
+     * @return path of the session file
+     */
+    public Path pathOf(String key) {
+        return directory.resolve(key + ".session.json");
+    }
+
+    /**
+     * Checks whether a session is saved for the key.
+     *
+     * @param key session key
+     * @return true if the session file exists
+     */
+    public boolean exists(String key) {
+        return Files.exists(pathOf(key));
+    }
+
+    /**
+     * Reads a saved session, from the cache when the file has not changed since it was last parsed.
+     *
+     * @param key session key
+     * @return session data, or null if none is saved
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public JsonNode read(String key) throws IOException {
+        Path file = pathOf(key);
+        Cached cached = cache.get(key);
+        if (cached != null && cached.matches(attributes(file))) {
+            return cached.data;
+        }
+
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try (FileChannel channel = openLock(key)) {
+            FileLock fileLock = channel.lock(0, Long.MAX_VALUE, true);
+            try {
+                BasicFileAttributes attributes = attributes(file);
+                if (attributes == null) {
+                    cache.remove(key);
+                    return null;
+                }
+                // Another thread may have parsed the same file while this one waited for the lock
+                Cached parsed = cache.get(key);
+                if (parsed != null && parsed.matches(attributes)) {
+                    return parsed.data;
+                }
+                JsonNode data = objectMapper.readTree(file.toFile());
+                cache.put(key, new Cached(attributes, data));
+                return data;
+            } finally {
+                fileLock.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Saves a session with an atomic rename, replacing any previous one.
+     *
+     * @param key session key
+     * @param data session data
+     * @throws IOException if the file cannot be written
+     */
+    public void write(String key, JsonNode data) throws IOException {
+        Path file = pathOf(key);
+        Files.createDirectories(directory);
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try (FileChannel channel = openLock(key)) {
+            FileLock fileLock = channel.lock();
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                Files.write(temp, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(data));
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                cache.put(key, new Cached(attributes(file), data));
+            } finally {
+                Files.deleteIfExists(temp);
+                fileLock.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes a saved session, but only if it is still the one the caller looked at: a session
+     * another worker saved in the meantime (different savedAt) is kept.
+     *
+     * @param key session key
+     * @param expectedSavedAt savedAt of the session the caller found invalid, or null to delete unconditionally
+     * @return true if a file was deleted
+     * @throws IOException if the file cannot be read or deleted
+     */
+    public boolean delete(String key, String expectedSavedAt) throws IOException {
+        Path file = pathOf(key);
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try (FileChannel channel = openLock(key)) {
+            FileLock fileLock = channel.lock();
+            try {
+                if (!Files.exists(file)) {
+                    return false;
+                }
+                if (expectedSavedAt != null) {
+                    JsonNode current = objectMapper.readTree(file.toFile());
+                    if (!expectedSavedAt.equals(current.path("savedAt").asText(null))) {
+                        System.out.println("Session " + key + " was saved again by another worker, keeping it");
+                        return false;
+                    }
+                }
+                cache.remove(key);
+                return Files.deleteIfExists(file);
+            } finally {
+                fileLock.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks.computeIfAbsent(key, k -> new ReentrantLock());
+    }
+
+    private FileChannel openLock(String key) throws IOException {
+        Files.createDirectories(directory);
+        return FileChannel.open(directory.resolve(key + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static BasicFileAttributes attributes(Path file) throws IOException {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A parsed session and the file attributes it was parsed from.
+     */
+    private static class Cached {
+        private final long modified;
+        private final long size;
+        private final Object fileKey;
+        private final JsonNode data;
+
+        Cached(BasicFileAttributes attributes, JsonNode data) {
+            this.modified = attributes == null ? -1 : attributes.lastModifiedTime().toMillis();
+            this.size = attributes == null ? -1 : attributes.size();
+            this.fileKey = attributes == null ? null : attributes.fileKey();
+            this.data = data;
+        }
+
+        boolean matches(BasicFileAttributes attributes) {
+            return attributes != null && attributes.lastModifiedTime().toMillis() == modified
+                    && attributes.size() == size && Objects.equals(attributes.fileKey(), fileKey);
+        }
+    }
+}
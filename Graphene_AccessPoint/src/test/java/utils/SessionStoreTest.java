@@ -0,0 +1,104 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * SessionStoreTest - Checks that parallel readers and writers of one saved session never collide
+ * on the session file lock. Uses a scratch directory under target/, no browser needed.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SessionStoreTest {
+
+    private static final String KEY = "monitor_company.com@sso.example.com";
+    private static final int ROUNDS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Path directory;
+    private SessionStore store;
+
+    @BeforeClass
+    public void createStore() throws IOException {
+        directory = Files.createDirectories(Paths.get(System.getProperty("user.dir"), "target", "session-store-test"));
+        store = new SessionStore(directory);
+    }
+
+    @AfterClass
+    public void deleteStore() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void concurrentReadsOfAChangedFileDoNotOverlapLocks() throws Exception {
+        SessionStore otherWriter = new SessionStore(directory);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Saved by another store (like another JVM), so neither reader can answer from its cache
+                otherWriter.write(KEY, objectMapper.readTree("{\"savedAt\":\"" + round + "\"}"));
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<JsonNode>> reads = new ArrayList<>();
+                for (int reader = 0; reader < 2; reader++) {
+                    reads.add(readers.submit(() -> {
+                        start.await();
+                        return store.read(KEY);
+                    }));
+                }
+                for (Future<JsonNode> read : reads) {
+                    Assert.assertEquals(read.get().path("savedAt").asText(), String.valueOf(round));
+                }
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void readsDuringWritesSeeWholeSessions() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(3);
+        try {
+            store.write(KEY, objectMapper.readTree("{\"savedAt\":\"initial\"}"));
+            List<Future<?>> tasks = new ArrayList<>();
+            tasks.add(workers.submit(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    store.write(KEY, objectMapper.readTree("{\"savedAt\":\"" + round + "\"}"));
+                }
+                return null;
+            }));
+            for (int reader = 0; reader < 2; reader++) {
+                tasks.add(workers.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        Assert.assertTrue(store.read(KEY).has("savedAt"));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+}
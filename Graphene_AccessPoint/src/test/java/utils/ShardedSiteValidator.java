@@ -0,0 +1,183 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import pageObject.DashBoardRunPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ShardedSiteValidator splits a list of applications across several authenticated browsers
+ * and validates the shards concurrently.
+ *
+ * Shard 0 runs on the calling thread with the scenario's own driver, which is already on the
+ * Applications tab.
+ * Every other shard gets its own browser: leased from {@link WebDriverPool} when the pool is
+ * enabled, otherwise launched. A shard browser that is not already logged in as the scenario's
+ * account (see {@link AccountPool}) is authenticated like the scenario's own browser: saved
+ * session first, fresh login otherwise. The sites of a shard whose browser cannot be leased,
+ * launched or logged in are validated on the scenario's driver after shard 0. Sites are dealt out
+ * round-robin and the merged results keep the original data table order, so the report and the
+ * pass/fail outcome are the same regardless of which worker finished first.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class ShardedSiteValidator {
+
+    private static final AtomicInteger workerCounter = new AtomicInteger();
+
+    private final int shards;
+
+    public ShardedSiteValidator(int shards) {
+        this.shards = Math.max(1, shards);
+    }
+
+    /**
+     * Gets the configured number of browser workers per validation step.
+     *
+     * @return dashboard.shards from global.properties, 1 when not set
+     */
+    public static int configuredShards() {
+        return Math.max(1, ConfigReader.getInt("dashboard.shards", 1));
+    }
+
+    /**
+     * Validates all sites across the configured number of browsers.
+     *
+     * @param siteNames application names in data table order
+     * @param primaryDriver the scenario's driver, used for the first shard
+     * @param includeTabs true to also open the tabs declared in each application's spec
+     * @return one result per site, in the same order as siteNames
+     */
+    public List<SiteValidationResult> validate(List<String> siteNames, WebDriver primaryDriver, boolean includeTabs) {
+        int workers = Math.min(shards, siteNames.size());
+        List<List<Integer>> assignments = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            assignments.add(new ArrayList<>());
+        }
+        for (int i = 0; i < siteNames.size(); i++) {
+            assignments.get(i % workers).add(i);
+        }
+
+        // Shard threads inherit the session key but not the account lease; hand the credentials over
+        AccountPool.Account account = AccountPool.current();
+        System.out.println("Validating " + siteNames.size() + " applications across " + workers + " browser(s)");
+        SiteValidationResult[] merged = new SiteValidationResult[siteNames.size()];
+        // Shard 0 stays on the calling thread with the scenario's driver; only the others get workers
+        ExecutorService executor = workers > 1 ? Executors.newFixedThreadPool(workers - 1,
+                runnable -> new Thread(runnable, "site-shard-" + workerCounter.incrementAndGet())) : null;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int shard = 1; shard < workers; shard++) {
+                List<Integer> indexes = assignments.get(shard);
+                futures.add(executor.submit(() -> runShard(siteNames, indexes, null, account, includeTabs, merged)));
+            }
+            runShard(siteNames, assignments.get(0), primaryDriver, account, includeTabs, merged);
+            List<Integer> unstarted = new ArrayList<>();
+            for (int shard = 1; shard < workers; shard++) {
+                try {
+                    futures.get(shard - 1).get();
+                } catch (ExecutionException e) {
+                    System.out.println("Shard worker failed: " + e.getCause());
+                }
+                for (int index : assignments.get(shard)) {
+                    if (merged[index] == null) {
+                        unstarted.add(index);
+                    }
+                }
+            }
+            if (!unstarted.isEmpty()) {
+                // A shard that got no browser does not fail its sites; the scenario's driver validates them
+                System.out.println("Validating " + unstarted.size() + " application(s) of unstarted shards on the scenario's browser");
+                runShard(siteNames, unstarted, primaryDriver, account, includeTabs, merged);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        List<SiteValidationResult> results = new ArrayList<>();
+        for (int i = 0; i < merged.length; i++) {
+            if (merged[i] == null) {
+                merged[i] = new SiteValidationResult(siteNames.get(i));
+                merged[i].fail("Site was not validated - its shard worker did not complete");
+            }
+            results.add(merged[i]);
+        }
+        return results;
+    }
+
+    private void runShard(List<String> siteNames, List<Integer> indexes, WebDriver primaryDriver, AccountPool.Account account,
+                          boolean includeTabs, SiteValidationResult[] merged) {
+        WebDriver workerDriver = primaryDriver;
+        boolean leased = false;
+        boolean started = primaryDriver != null;
+        try {
+            if (workerDriver == null) {
+                if (WebDriverPool.isEnabled()) {
+                    workerDriver = WebDriverPool.getInstance().lease();
+                    leased = true;
+                } else {
+                    workerDriver = TestBase.createDriver();
+                    workerDriver.get(ConfigReader.getProperty("Testurl"));
+                }
+                if (!leased || !WebDriverPool.getInstance().isAuthenticated(workerDriver)) {
+                    authenticate(workerDriver, account);
+                }
+                new DashBoardRunPage(workerDriver).getAppMainTab();
+                started = true;
+            }
+
+            DashboardValidator validator = new DashboardValidator(workerDriver);
+            for (int index : indexes) {
+                SiteValidationResult result = validator.validateSite(siteNames.get(index), includeTabs);
+                merged[index] = result;
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (!started) {
+                // Left unvalidated so validate() folds these sites back onto the scenario's driver
+                System.out.println("Browser worker could not start: " + e.getMessage());
+                return;
+            }
+            for (int index : indexes) {
+                if (merged[index] == null) {
+                    SiteValidationResult result = new SiteValidationResult(siteNames.get(index));
+                    result.fail("Browser worker failed before validating: " + siteNames.get(index) + " - " + e.getMessage());
+                    merged[index] = result;
+                }
+            }
+        } finally {
+            if (workerDriver != null && workerDriver != primaryDriver) {
+                if (leased) {
+                    WebDriverPool.getInstance().release(workerDriver);
+                } else {
+                    workerDriver.quit();
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs a shard browser in as the scenario's account: the leased account when accounts are
+     * pooled, otherwise UserName/Password from global.properties.
+     */
+    private static void authenticate(WebDriver driver, AccountPool.Account account) throws InterruptedException {
+        String user = account != null ? account.getUser() : ConfigReader.getProperty("UserName");
+        String password = account != null ? account.getPassword() : ConfigReader.getProperty("Password");
+        if (!new AuthenticationManager(driver).authenticateWithSessionManagement(user, password)) {
+            throw new IllegalStateException("Shard browser could not log in as " + user);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SiteResultsWriter streams one JSON line per validated application to a results file as soon
+ * as the site is done, so dashboards can tail a run while it is going and a crash never loses
+ * sites that were already validated.
+ *
+ * The file is only ever appended to. Records are forced to disk in batches: after a number of
+ * records or once the oldest unsynced record is old enough, whichever comes first, and when the
+ * run ends. The age deadline is kept by a background thread, so the last records of a slow shard
+ * do not wait for the next record.
+ *
+ * Record: ts, run, env, site, status, error, durationMs, worker, timings (search, tileClick or
+ * navigate, header, frameReady, container in ms) and tabs (click-to-render ms per tab).
+ *
+ * Configuration (global.properties):
+ * results.sink.enabled       - write the results file (false)
+ * results.sink.file          - JSON Lines file (target/site-results.jsonl)
+ * results.sink.fsync.records - force to disk after this many records (20)
+ * results.sink.fsync.millis  - force to disk once the oldest unsynced record is this old (2000)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SiteResultsWriter {
+
+    private static final String RUN_ID = Instant.now().toString();
+    private static volatile SiteResultsWriter instance;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FileChannel channel;
+    private final String environment;
+    private final int syncRecords;
+    private final long syncMillis;
+    private final ScheduledExecutorService syncScheduler;
+    private int unsynced;
+    private long firstUnsyncedAt;
+
+    SiteResultsWriter(File file, String environment, int syncRecords, long syncMillis) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        this.channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.environment = environment;
+        this.syncRecords = Math.max(1, syncRecords);
+        this.syncMillis = syncMillis;
+        this.syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "site-results-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Checks whether per-site results are streamed to the results file.
+     *
+     * @return results.sink.enabled from global.properties
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("results.sink.enabled", false);
+    }
+
+    public static SiteResultsWriter getInstance() throws IOException {
+        if (instance == null) {
+            synchronized (SiteResultsWriter.class) {
+                if (instance == null) {
+                    String path = ConfigReader.getProperty("results.sink.file", "target/site-results.jsonl");
+                    File file = new File(path).isAbsolute() ? new File(path) : new File(System.getProperty("user.dir"), path);
+                    instance = new SiteResultsWriter(file, environmentOf(ConfigReader.getProperty("Testurl")),
+                            ConfigReader.getInt("results.sink.fsync.records", 20),
+                            ConfigReader.getInt("results.sink.fsync.millis", 2000));
+                    System.out.println("📝 Streaming site results to " + file.getPath());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Appends a site's result if the sink is enabled. Write errors are reported on the console
+     * and never fail the validation.
+     *
+     * @param result finished site validation
+     */
+    public static void appendIfEnabled(SiteValidationResult result) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            getInstance().append(result);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write site result for " + result.getSiteName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Forces outstanding records to disk and closes the file, if the writer was opened.
+     */
+    public static void closeIfOpen() {
+        synchronized (SiteResultsWriter.class) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Appends one record and forces the file to disk when the batch is full or old enough.
+     *
+     * @param result finished site validation
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void append(SiteValidationResult result) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(toRecord(result)) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+
+        long now = System.currentTimeMillis();
+        if (unsynced++ == 0) {
+            firstUnsyncedAt = now;
+            if (syncMillis > 0) {
+                // Keeps the age deadline even if no further record arrives
+                syncScheduler.schedule(this::syncIfDue, syncMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (unsynced >= syncRecords || now - firstUnsyncedAt >= syncMillis) {
+            channel.force(false);
+            unsynced = 0;
+        }
+    }
+
+    /**
+     * Forces outstanding records to disk when a batch's age deadline passes. A batch that was synced
+     * early by record count leaves nothing to do, or at most syncs the next batch a little early.
+     */
+    private synchronized void syncIfDue() {
+        if (unsynced == 0 || !channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.force(false);
+            unsynced = 0;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not sync site results file: " + e.getMessage());
+        }
+    }
+
+    private ObjectNode toRecord(SiteValidationResult result) {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("ts", Instant.now().toString());
+        record.put("run", RUN_ID);
+        record.put("env", environment);
+        record.put("site", result.getSiteName());
+        record.put("status", result.isPassed() ? "PASS" : "FAIL");
+        record.put("error", result.getError());
+        record.put("durationMs", result.getDurationMillis());
+        record.put("worker", result.getWorker());
+        ObjectNode timings = record.putObject("timings");
+        for (Map.Entry<String, Long> step : result.getTimings().entrySet()) {
+            timings.put(step.getKey(), step.getValue());
+        }
+        ObjectNode tabs = record.putObject("tabs");
+        for (Map.Entry<String, Long> tab : result.getTabTimings().entrySet()) {
+            tabs.put(tab.getKey(), tab.getValue());
+        }
+        return record;
+    }
+
+    private synchronized void close() {
+        syncScheduler.shutdownNow();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not close site results file: " + e.getMessage());
+        }
+    }
+
+    private static String environmentOf(String url) {
+        if (url == null || url.isEmpty()) {
+            return "default";
+        }
+        String host = URI.create(url.trim()).getHost();
+        return host == null ? "default" : host;
+    }
+}
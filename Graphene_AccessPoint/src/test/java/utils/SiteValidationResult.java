@@ -0,0 +1,184 @@
+package utils;
+
+import org.testng.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * SiteValidationResult holds the outcome of validating one application dashboard.
+ * Messages are collected instead of being written to the report directly, so results
+ * produced on worker threads can be merged into the scenario's report in a fixed order.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class SiteValidationResult {
+
+    private final String siteName;
+    private final List<String> messages = new ArrayList<>();
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+    private final Map<String, Long> tabTimings = new LinkedHashMap<>();
+    private final List<Screenshot> screenshots = new ArrayList<>();
+    private boolean passed = true;
+    private String error;
+    private long durationMillis;
+    private String worker = Thread.currentThread().getName();
+
+    public SiteValidationResult(String siteName) {
+        this.siteName = siteName;
+    }
+
+    /**
+     * Records an informational message for the report.
+     *
+     * @param message message text
+     */
+    public void info(String message) {
+        messages.add(message);
+    }
+
+    /**
+     * Marks the site as failed and records the reason.
+     *
+     * @param reason failure reason
+     */
+    public void fail(String reason) {
+        passed = false;
+        if (error == null) {
+            error = reason;
+        }
+        messages.add(reason);
+    }
+
+    /**
+     * Records how long one step of the validation took (search, tileClick, header, frameReady, ...).
+     *
+     * @param step step name
+     * @param millis step duration
+     */
+    public void time(String step, long millis) {
+        timings.put(step, millis);
+    }
+
+    /**
+     * Records how long a tab took from click until its container rendered.
+     *
+     * @param tab tab label
+     * @param millis click-to-render time
+     */
+    public void timeTab(String tab, long millis) {
+        tabTimings.put(tab, millis);
+    }
+
+    /**
+     * Records a screenshot that is still being encoded in the background. It is reported right
+     * after the messages recorded so far.
+     *
+     * @param title caption in the report
+     * @param path future path of the image, ignored when null
+     */
+    public void screenshot(String title, CompletableFuture<String> path) {
+        if (path != null) {
+            screenshots.add(new Screenshot(title, path, messages.size()));
+        }
+    }
+
+    public String getSiteName() {
+        return siteName;
+    }
+
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    public Map<String, Long> getTimings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    public Map<String, Long> getTabTimings() {
+        return Collections.unmodifiableMap(tabTimings);
+    }
+
+    public List<Screenshot> getScreenshots() {
+        return Collections.unmodifiableList(screenshots);
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public String getWorker() {
+        return worker;
+    }
+
+    public void setWorker(String worker) {
+        this.worker = worker;
+    }
+
+    /**
+     * Fails the calling step when any site failed, listing each failed site with its first error.
+     *
+     * @param results validation results of one data table
+     */
+    public static void assertAllPassed(List<SiteValidationResult> results) {
+        List<String> failedSites = results.stream()
+                .filter(result -> !result.isPassed())
+                .map(result -> result.getSiteName() + " (" + result.getError() + ")")
+                .collect(Collectors.toList());
+        Assert.assertTrue(failedSites.isEmpty(), "Dashboard validation failed for " + failedSites.size() + " application(s): " + failedSites);
+    }
+
+    /**
+     * A screenshot and the number of messages recorded before it was taken.
+     */
+    public static class Screenshot {
+        private final String title;
+        private final CompletableFuture<String> path;
+        private final int afterMessages;
+
+        Screenshot(String title, CompletableFuture<String> path, int afterMessages) {
+            this.title = title;
+            this.path = path;
+            this.afterMessages = afterMessages;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public CompletableFuture<String> getPath() {
+            return path;
+        }
+
+        /**
+         * @return number of the result's messages that come before this screenshot in the report
+         */
+        public int getAfterMessages() {
+            return afterMessages;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return siteName + " [" + (passed ? "PASS" : "FAIL") + ", " + durationMillis + " ms, " + worker + "]"
+                + (error == null ? "" : " - " + error);
+    }
+}
@@ -5,80 +5,193 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.annotations.AfterMethod;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Duration;
-import java.util.Properties;
 
 /**
  * TestBase class manages WebDriver initialization with session management support.
  * Updated to support authentication session persistence.
+ * Each driver is confined to the thread that created it, so scenarios can run in parallel
+ * with one Chrome instance per worker thread.
  * 
  * @author SreeHarsha
- * @version 2.0
+ * @version 2.2
  */
 public class TestBase {
 
+    private static final ThreadLocal<WebDriver> threadDriver = new ThreadLocal<>();
+
     public WebDriver driver;
     public TestBase DriverManager;
     private AuthenticationManager authManager;
+    private boolean pooled;
 
     /**
      * Initializes WebDriver with session management capabilities.
      * Configures Chrome with options that support session persistence.
+     * The driver is bound to the calling thread; repeated calls on the same thread return the same instance.
+     * When driver.pool.enabled is set, a warm driver is leased from {@link WebDriverPool} instead of launching Chrome.
+     * When test accounts are configured, an account is leased from {@link AccountPool} first, so the pooled
+     * driver and saved session are matched against that account.
      * 
      * @return WebDriver instance
      * @throws IOException if properties file cannot be read
      */
     public WebDriver WebDriverManager() throws IOException {
-        FileInputStream fileInputStream = new FileInputStream(System.getProperty("user.dir") + "//src//test//java//resources//global.properties");
-        Properties properties = new Properties();
-        properties.load(fileInputStream);
-        String url = properties.getProperty("Testurl");
-        
         if (driver == null) {
-            if (properties.getProperty("browser").equalsIgnoreCase("chrome")) {
-                System.setProperty("webdriver.chrome.driver", "src/test/java/resources/chromedriver.exe");
-                
-                // Configure Chrome options for better session handling
-                ChromeOptions options = new ChromeOptions();
-                
-                // Add arguments to improve session persistence
-                options.addArguments("--disable-blink-features=AutomationControlled");
-                options.addArguments("--disable-extensions");
-                options.addArguments("--no-sandbox");
-                options.addArguments("--disable-dev-shm-usage");
-                options.addArguments("--disable-web-security");
-                options.addArguments("--allow-running-insecure-content");
-                options.addArguments("--disable-features=VizDisplayCompositor");
-                
-                // Enable persistent sessions
-                options.addArguments("--enable-features=NetworkService,NetworkServiceLogging");
-                options.addArguments("--disable-features=TranslateUI");
-                
-                // Set user agent to avoid detection
-                options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-                
-                // Experimental options for better session handling
-                options.setExperimentalOption("useAutomationExtension", false);
-                options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-                
-                driver = new ChromeDriver(options);
-                
-                System.out.println("✅ Chrome WebDriver initialized with session management support");
+            driver = threadDriver.get();
+        }
+        if (driver == null) {
+            try {
+                AccountPool.leaseForCurrentThread();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while leasing a test account", e);
             }
-            
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-            driver.manage().window().maximize();
-            driver.get(url);
+            if (WebDriverPool.isEnabled()) {
+                try {
+                    driver = WebDriverPool.getInstance().lease();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while leasing a WebDriver from the pool", e);
+                }
+                pooled = true;
+            } else {
+                driver = createDriver();
+                driver.get(ConfigReader.getProperty("Testurl"));
+            }
+            threadDriver.set(driver);
             
             // Initialize authentication manager
             authManager = new AuthenticationManager(driver);
         }
         return driver;
     }
+
+    /**
+     * Launches a new browser configured for session persistence, with implicit wait and maximized window.
+     *
+     * @return new WebDriver instance
+     */
+    public static WebDriver createDriver() {
+        return createDriver(false);
+    }
+
+    /**
+     * Launches a new browser configured for session persistence, optionally headless
+     * (used for background work such as {@link SessionKeepAlive}).
+     *
+     * @param headless true to run Chrome without a window
+     * @return new WebDriver instance
+     */
+    public static WebDriver createDriver(boolean headless) {
+        String browser = ConfigReader.getProperty("browser", "chrome");
+        if (!browser.equalsIgnoreCase("chrome")) {
+            throw new IllegalArgumentException("Unsupported browser in global.properties: " + browser);
+        }
+        System.setProperty("webdriver.chrome.driver", "src/test/java/resources/chromedriver.exe");
+        
+        // Configure Chrome options for better session handling
+        ChromeOptions options = new ChromeOptions();
+        
+        // Add arguments to improve session persistence
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-web-security");
+        options.addArguments("--allow-running-insecure-content");
+        options.addArguments("--disable-features=VizDisplayCompositor");
+        
+        // Enable persistent sessions
+        options.addArguments("--enable-features=NetworkService,NetworkServiceLogging");
+        options.addArguments("--disable-features=TranslateUI");
+        if (headless) {
+            options.addArguments("--headless=new", "--window-size=1920,1080");
+        }
+        
+        // Set user agent to avoid detection
+        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        
+        // Experimental options for better session handling
+        options.setExperimentalOption("useAutomationExtension", false);
+        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+        
+        // Optionally time every command (metrics.commands.enabled); monitors below must see the decorated driver
+        ChromeDriver chromeDriver = new ChromeDriver(options);
+        MetricsEndpoint.registerBrowser(chromeDriver);
+        WebDriver newDriver = CommandMetricsListener.decorateIfEnabled(chromeDriver);
+        System.out.println("✅ Chrome WebDriver initialized with session management support on " + Thread.currentThread().getName());
+        
+        NetworkIdleMonitor.attachIfEnabled(newDriver);
+        
+        WaitEngine.setImplicitWait(newDriver, Duration.ofSeconds(ConfigReader.getInt("wait.implicit.seconds", 10)));
+        if (!headless) {
+            newDriver.manage().window().maximize();
+        }
+        return newDriver;
+    }
     
+    /**
+     * Gets the WebDriver bound to the current thread.
+     *
+     * @return WebDriver for this thread, or null if none has been started
+     */
+    public static WebDriver getDriver() {
+        return threadDriver.get();
+    }
+
+    /**
+     * Ends this scenario's use of the driver: a pooled driver is reset and returned to the pool,
+     * otherwise the browser is quit. A leased test account is returned as well.
+     */
+    public void releaseDriver() {
+        if (!pooled) {
+            quitDriver();
+            return;
+        }
+        WebDriver current = driver != null ? driver : threadDriver.get();
+        try {
+            WebDriverPool.getInstance().release(current);
+        } finally {
+            driver = null;
+            authManager = null;
+            pooled = false;
+            threadDriver.remove();
+            AccountPool.releaseCurrent();
+        }
+    }
+
+    /**
+     * Checks whether this scenario received a pooled driver that is already logged in,
+     * in which case the login page steps can be skipped.
+     *
+     * @return true if the leased driver is on the authenticated home page
+     */
+    public boolean isWarmSession() {
+        return pooled && driver != null && WebDriverPool.getInstance().isAuthenticated(driver);
+    }
+
+    /**
+     * Quits the driver owned by this scenario and unbinds it from the current thread.
+     */
+    public void quitDriver() {
+        WebDriver current = driver != null ? driver : threadDriver.get();
+        try {
+            if (pooled) {
+                WebDriverPool.getInstance().invalidate(current);
+            } else if (current != null) {
+                current.quit();
+            }
+        } finally {
+            driver = null;
+            authManager = null;
+            pooled = false;
+            threadDriver.remove();
+            AccountPool.releaseCurrent();
+        }
+    }
+
     /**
      * Gets the authentication manager instance.
      *
@@ -94,6 +207,7 @@ public class TestBase {
     /**
      * Performs authentication with session management.
      * This method should be called instead of manual login steps.
+     * The leased {@link AccountPool} account, if any, replaces the given credentials.
      * 
      * @param username Microsoft username
      * @param password Microsoft password
@@ -104,7 +218,16 @@ public class TestBase {
         if (authManager == null) {
             authManager = new AuthenticationManager(driver);
         }
-        return authManager.authenticateWithSessionManagement(username, password);
+        AccountPool.Account account = AccountPool.current();
+        if (account != null) {
+            username = account.getUser();
+            password = account.getPassword();
+        }
+        boolean authenticated = authManager.authenticateWithSessionManagement(username, password);
+        if (!authenticated) {
+            AccountPool.reportFailure();
+        }
+        return authenticated;
     }
     
     /**
@@ -120,7 +243,16 @@ public class TestBase {
         if (authManager == null) {
             authManager = new AuthenticationManager(driver);
         }
-        return authManager.forceLogin(username, password);
+        AccountPool.Account account = AccountPool.current();
+        if (account != null) {
+            username = account.getUser();
+            password = account.getPassword();
+        }
+        boolean authenticated = authManager.forceLogin(username, password);
+        if (!authenticated) {
+            AccountPool.reportFailure();
+        }
+        return authenticated;
     }
     
     /**
@@ -0,0 +1,123 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TileLocatorTest - Checks that catalogued tile locators can be resolved by {@link BatchedDomQuery}
+ * and {@link WaitConditions#elementStable(By, Duration)}. The batched script is answered by a stub
+ * driver that evaluates each XPath against a small Applications grid, no browser needed.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class TileLocatorTest {
+
+    private static final String GRID =
+            "<html><body>" +
+            "<div data-placement='bottom' id='tile-7'>Cipla</div>" +
+            "<div data-placement='bottom' data-id='42'>Coronis Performance</div>" +
+            "<div data-placement='bottom'>DBS 2018</div>" +
+            "<div data-placement='bottom' id='tile-9'>Cipla Contract Management</div>" +
+            "</body></html>";
+
+    @Test
+    public void catalogedIdIsResolvedByTheBatchedQuery() throws Exception {
+        By locator = DashboardValidator.tileLocator("Cipla", entry("tile-9", "id"));
+        BatchedDomQuery.ElementState state = new BatchedDomQuery(stubDriver()).query(locator).get(0);
+        Assert.assertEquals(state.getCount(), 1);
+        Assert.assertEquals(state.getText(), "Cipla Contract Management");
+    }
+
+    @Test
+    public void dataIdIsMatchedOnItsOwnAttribute() throws Exception {
+        By locator = DashboardValidator.tileLocator("Coronis Performance", entry("42", "data-id"));
+        WebElement tile = WaitConditions.elementStable(locator, Duration.ZERO).apply(stubDriver());
+        Assert.assertNotNull(tile);
+        Assert.assertEquals(tile.getText(), "Coronis Performance");
+    }
+
+    @Test
+    public void staleIdFallsBackToTheTileText() throws Exception {
+        By locator = DashboardValidator.tileLocator("DBS 2018", entry("tile-gone", "id"));
+        BatchedDomQuery.ElementState state = new BatchedDomQuery(stubDriver()).query(locator).get(0);
+        Assert.assertEquals(state.getCount(), 1);
+        Assert.assertEquals(state.getText(), "DBS 2018");
+    }
+
+    @Test
+    public void uncataloguedTileUsesTheTextSearch() throws Exception {
+        By locator = DashboardValidator.tileLocator("Cipla Contract", null);
+        BatchedDomQuery.ElementState state = new BatchedDomQuery(stubDriver()).query(locator).get(0);
+        Assert.assertEquals(state.getText(), "Cipla Contract Management");
+    }
+
+    @Test
+    public void quotesInTheIdAreEscaped() throws Exception {
+        By locator = DashboardValidator.tileLocator("DBS 2018", entry("it's \"quoted\"", "id"));
+        Assert.assertEquals(new BatchedDomQuery(stubDriver()).query(locator).get(0).getText(), "DBS 2018");
+    }
+
+    private static ApplicationCatalog.Entry entry(String tileId, String attribute) {
+        ApplicationCatalog.Entry entry = new ApplicationCatalog.Entry();
+        entry.setTileId(tileId);
+        entry.setTileIdAttribute(attribute);
+        return entry;
+    }
+
+    /**
+     * Driver whose executeScript answers the batched query script for xpath specs.
+     */
+    private static WebDriver stubDriver() throws Exception {
+        Document grid = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(GRID)));
+        return (WebDriver) Proxy.newProxyInstance(TileLocatorTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("executeScript")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    List<Object> results = new ArrayList<>();
+                    for (Object spec : (List<?>) ((Object[]) args[1])[0]) {
+                        List<?> usingAndValue = (List<?>) spec;
+                        Assert.assertEquals(usingAndValue.get(0), "xpath");
+                        NodeList matches = (NodeList) XPathFactory.newInstance().newXPath()
+                                .evaluate(String.valueOf(usingAndValue.get(1)), grid, XPathConstants.NODESET);
+                        Element first = (Element) matches.item(0);
+                        results.add(first == null
+                                ? Map.of("count", 0, "visibleCount", 0, "visible", false)
+                                : Map.of("count", matches.getLength(), "visibleCount", matches.getLength(), "visible", true,
+                                        "text", first.getTextContent(), "element", element(first.getTextContent()),
+                                        "rect", List.of(0, 0, 120, 40)));
+                    }
+                    return results;
+                });
+    }
+
+    private static WebElement element(String text) {
+        return (WebElement) Proxy.newProxyInstance(TileLocatorTest.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getText")) {
+                        return text;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,122 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TileSnapshot reads the whole Applications grid with one script call into a map of tile text to
+ * element reference, so looking up a site costs a map lookup instead of an XPath search.
+ *
+ * References stay valid while the grid page is not reloaded (e.g. when tiles open new windows).
+ * When a reference has gone stale the grid is scanned again, once per lookup.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class TileSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "return Array.prototype.map.call(document.querySelectorAll(arguments[0]), function (tile) {" +
+            "  return {text: (tile.innerText || tile.textContent || '').trim(), element: tile};" +
+            "});";
+
+    private final WebDriver driver;
+    private final String tileCss;
+    private final Map<String, WebElement> elements = new LinkedHashMap<>();
+    private boolean scanned;
+
+    /**
+     * @param driver driver showing the Applications grid
+     * @param tiles css locator of the tile elements
+     */
+    public TileSnapshot(WebDriver driver, By tiles) {
+        this.driver = driver;
+        this.tileCss = String.valueOf(((By.Remotable) tiles).getRemoteParameters().value());
+    }
+
+    /**
+     * Reads all tiles of the grid with a single script call, replacing the previous snapshot.
+     *
+     * @return this snapshot
+     */
+    public TileSnapshot rescan() {
+        elements.clear();
+        List<?> tiles = (List<?>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, tileCss);
+        for (Object raw : tiles) {
+            Map<?, ?> tile = (Map<?, ?>) raw;
+            String text = String.valueOf(tile.get("text"));
+            // Keep the first tile for duplicate texts, like the contains() XPath did
+            elements.putIfAbsent(text, (WebElement) tile.get("element"));
+        }
+        scanned = true;
+        System.out.println("Tile snapshot taken: " + elements.size() + " tiles");
+        return this;
+    }
+
+    /**
+     * Finds the tile of an application, scanning the grid on first use.
+     *
+     * @param name application name
+     * @return tile element, or null if no tile text contains the name
+     */
+    public WebElement find(String name) {
+        if (!scanned) {
+            rescan();
+        }
+        String key = keyFor(name);
+        return key == null ? null : elements.get(key);
+    }
+
+    /**
+     * Clicks the tile of an application. A stale reference triggers one re-scan and a retry.
+     *
+     * @param name application name
+     * @return the clicked tile element
+     * @throws NoSuchElementException if no tile matches the name
+     */
+    public WebElement click(String name) {
+        WebElement tile = require(name);
+        try {
+            tile.click();
+        } catch (StaleElementReferenceException e) {
+            rescan();
+            tile = require(name);
+            tile.click();
+        }
+        return tile;
+    }
+
+    private WebElement require(String name) {
+        WebElement tile = find(name);
+        if (tile == null) {
+            // The grid may have changed since the snapshot was taken
+            rescan();
+            tile = find(name);
+        }
+        if (tile == null) {
+            throw new NoSuchElementException("No application tile found for: " + name);
+        }
+        return tile;
+    }
+
+    private String keyFor(String name) {
+        String wanted = name.trim();
+        if (elements.containsKey(wanted)) {
+            return wanted;
+        }
+        for (String text : elements.keySet()) {
+            if (text.contains(wanted)) {
+                return text;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,247 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WaitConditions provides composable readiness conditions for {@link WaitEngine}.
+ * Each factory returns a fresh condition; stateful conditions (stable, idle) must not be
+ * shared between waits.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class WaitConditions {
+
+    /**
+     * Loading indicators used by the portal and the embedded dashboards.
+     * Override with wait.spinner.css in global.properties.
+     */
+    public static final By DEFAULT_SPINNER = By.cssSelector(
+            ConfigReader.getProperty("wait.spinner.css", ".spinner, .loader, .loading, #loadingSpinner, .tab-loadingSpinner"));
+
+    /**
+     * Document of the current browsing context has finished loading.
+     *
+     * @return condition that is true when document.readyState is complete
+     */
+    public static ExpectedCondition<Boolean> documentReady() {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState;"));
+            }
+
+            @Override
+            public String toString() {
+                return "document.readyState to be complete";
+            }
+        };
+    }
+
+    /**
+     * Element is present, displayed and has kept the same position and size for the quiet period.
+     * Catches tiles that are still animating in after a search filter.
+     *
+     * @param locator element locator
+     * @param quietPeriod how long the element must stay unchanged
+     * @return condition returning the stable element
+     */
+    public static ExpectedCondition<WebElement> elementStable(By locator, Duration quietPeriod) {
+        return new ExpectedCondition<WebElement>() {
+            private Rectangle lastRect;
+            private long stableSince;
+
+            @Override
+            public WebElement apply(WebDriver driver) {
+                // Presence, visibility and position in one round-trip per poll
+                BatchedDomQuery.ElementState state = new BatchedDomQuery(driver).query(locator).get(0);
+                if (!state.isVisible() || state.getElement() == null) {
+                    lastRect = null;
+                    return null;
+                }
+                WebElement element = state.getElement();
+                Rectangle rect = state.getRect();
+                long now = System.currentTimeMillis();
+                if (!rect.equals(lastRect)) {
+                    lastRect = rect;
+                    stableSince = now;
+                    return quietPeriod.isZero() ? element : null;
+                }
+                return now - stableSince >= quietPeriod.toMillis() ? element : null;
+            }
+
+            @Override
+            public String toString() {
+                return "element " + locator + " to be stable for " + quietPeriod.toMillis() + " ms";
+            }
+        };
+    }
+
+    /**
+     * Element is stable using the default quiet period (wait.stable.ms, 300 ms).
+     *
+     * @param locator element locator
+     * @return condition returning the stable element
+     */
+    public static ExpectedCondition<WebElement> elementStable(By locator) {
+        return elementStable(locator, Duration.ofMillis(ConfigReader.getInt("wait.stable.ms", 300)));
+    }
+
+    /**
+     * Frame is available, the driver has switched into it and its document has finished loading.
+     * The caller is inside the frame when the condition succeeds.
+     *
+     * @param frameLocator locator of the iframe element in the current context
+     * @return condition that is true once inside a loaded frame
+     */
+    public static ExpectedCondition<Boolean> frameReady(By frameLocator) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                List<WebElement> frames = driver.findElements(frameLocator);
+                if (frames.isEmpty()) {
+                    return false;
+                }
+                try {
+                    driver.switchTo().frame(frames.get(0));
+                } catch (NoSuchFrameException e) {
+                    return false;
+                }
+                Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState;");
+                if ("complete".equals(state)) {
+                    return true;
+                }
+                driver.switchTo().parentFrame();
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return "frame " + frameLocator + " to be loaded and switched to";
+            }
+        };
+    }
+
+    /**
+     * No visible loading indicator matches the locator. True immediately if none was ever shown.
+     *
+     * @param spinner loading indicator locator
+     * @return condition that is true when no spinner is visible
+     */
+    public static ExpectedCondition<Boolean> spinnerGone(By spinner) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return new BatchedDomQuery(driver).query(spinner).get(0).getVisibleCount() == 0;
+            }
+
+            @Override
+            public String toString() {
+                return "spinner " + spinner + " to disappear";
+            }
+        };
+    }
+
+    /**
+     * No visible default loading indicator.
+     *
+     * @return condition that is true when no spinner is visible
+     */
+    public static ExpectedCondition<Boolean> spinnerGone() {
+        return spinnerGone(DEFAULT_SPINNER);
+    }
+
+    /**
+     * No request of the page or its child frames has been in flight for the quiet period.
+     * Uses {@link NetworkIdleMonitor} (CDP Network events of the page target) on Chrome. Without it,
+     * and additionally while the driver is inside a frame (which Chrome may run as a separate target
+     * the monitor does not see), the document must be loaded with no new Resource Timing entries in
+     * the current browsing context.
+     *
+     * @param quietPeriod how long the resource count must stay unchanged
+     * @return condition that is true when the page is network idle
+     */
+    public static ExpectedCondition<Boolean> networkIdle(Duration quietPeriod) {
+        return new ExpectedCondition<Boolean>() {
+            private long lastCount = -1;
+            private long idleSince;
+
+            @Override
+            public Boolean apply(WebDriver driver) {
+                // CDP request tracking covers the page target; a frame may be a target of its own
+                NetworkIdleMonitor monitor = NetworkIdleMonitor.isEnabled() ? NetworkIdleMonitor.forDriver(driver) : null;
+                boolean pageIdle = monitor == null || monitor.isIdleFor(quietPeriod);
+                if (monitor != null && !FrameContext.of(driver).isInFrame()) {
+                    return pageIdle;
+                }
+                Object result = ((JavascriptExecutor) driver).executeScript(
+                        "if (document.readyState !== 'complete') { return -1; }" +
+                        "if (performance.setResourceTimingBufferSize) { performance.setResourceTimingBufferSize(100000); }" +
+                        "return performance.getEntriesByType('resource').length;");
+                long count = result instanceof Number ? ((Number) result).longValue() : -1;
+                long now = System.currentTimeMillis();
+                if (count < 0 || count != lastCount) {
+                    lastCount = count;
+                    idleSince = now;
+                    return false;
+                }
+                return pageIdle && now - idleSince >= quietPeriod.toMillis();
+            }
+
+            @Override
+            public String toString() {
+                return "network to be idle for " + quietPeriod.toMillis() + " ms";
+            }
+        };
+    }
+
+    /**
+     * Network idle using the default quiet period (wait.network.idle.ms, 500 ms).
+     *
+     * @return condition that is true when the page is network idle
+     */
+    public static ExpectedCondition<Boolean> networkIdle() {
+        return networkIdle(Duration.ofMillis(ConfigReader.getInt("wait.network.idle.ms", 500)));
+    }
+
+    /**
+     * Dashboard container is present, no spinner is visible and the frame is network idle.
+     * Evaluate inside the dashboard frame.
+     *
+     * @param container container locator
+     * @return composite readiness condition
+     */
+    public static ExpectedCondition<Boolean> dashboardReady(By container) {
+        return ExpectedConditions.and(
+                containerShownWithoutSpinner(container),
+                networkIdle());
+    }
+
+    /**
+     * Container is present and no default loading indicator is visible, checked with one batched query.
+     */
+    private static ExpectedCondition<Boolean> containerShownWithoutSpinner(By container) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                List<BatchedDomQuery.ElementState> states = new BatchedDomQuery(driver).query(container, DEFAULT_SPINNER);
+                return states.get(0).isPresent() && states.get(1).getVisibleCount() == 0;
+            }
+
+            @Override
+            public String toString() {
+                return "container " + container + " to be present with no spinner visible";
+            }
+        };
+    }
+}
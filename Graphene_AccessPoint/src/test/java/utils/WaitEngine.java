@@ -0,0 +1,195 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * WaitEngine runs readiness conditions with configurable polling and per-call timeouts,
+ * so page objects proceed as soon as the UI is ready instead of sleeping for a fixed time.
+ *
+ * Conditions are plain Selenium {@link ExpectedCondition}s: the factories in {@link WaitConditions}
+ * (element stable, frame ready, spinner gone, network idle) can be combined with
+ * ExpectedConditions.and / ExpectedConditions.or and with each other.
+ *
+ * While a condition is polled the implicit wait is switched off, otherwise every negative
+ * findElements call inside a condition would block for the full implicit timeout. The implicit
+ * wait of each driver is remembered (set it through {@link #setImplicitWait(WebDriver, Duration)},
+ * otherwise it is read from the browser once), and nested waits on the same driver switch it off
+ * and back only once.
+ *
+ * Configuration (global.properties):
+ * wait.timeout.seconds - default timeout per call (20)
+ * wait.polling.ms      - polling interval (250)
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class WaitEngine {
+
+    // Implicit wait per driver, so it is not read back from the browser on every wait
+    private static final Map<WebDriver, ImplicitWait> implicitWaits = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final Duration defaultTimeout;
+    private final Duration polling;
+
+    public WaitEngine(WebDriver driver) {
+        this(driver, Duration.ofSeconds(ConfigReader.getInt("wait.timeout.seconds", 20)));
+    }
+
+    public WaitEngine(WebDriver driver, Duration defaultTimeout) {
+        this.driver = driver;
+        this.defaultTimeout = defaultTimeout;
+        this.polling = Duration.ofMillis(ConfigReader.getInt("wait.polling.ms", 250));
+    }
+
+    /**
+     * Waits for a condition using the default timeout.
+     *
+     * @param condition condition to satisfy
+     * @param <T> condition result type
+     * @return the first non-null, non-false value returned by the condition
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(ExpectedCondition<T> condition) {
+        return until(condition, defaultTimeout);
+    }
+
+    /**
+     * Waits for a condition with an explicit timeout for this call.
+     *
+     * @param condition condition to satisfy
+     * @param timeout maximum time to wait
+     * @param <T> condition result type
+     * @return the first non-null, non-false value returned by the condition
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(ExpectedCondition<T> condition, Duration timeout) {
+        ImplicitWait implicitWait = suspendImplicitWait();
+        try {
+            return new FluentWait<>(driver)
+                    .withTimeout(timeout)
+                    .pollingEvery(polling)
+                    .ignoring(NoSuchElementException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(condition);
+        } finally {
+            restoreImplicitWait(implicitWait);
+        }
+    }
+
+    /**
+     * Waits for a condition but returns null instead of throwing when it times out.
+     * Useful for best-effort settling, e.g. a spinner that may never appear.
+     *
+     * @param condition condition to satisfy
+     * @param timeout maximum time to wait
+     * @param <T> condition result type
+     * @return condition value, or null on timeout
+     */
+    public <T> T untilOrNull(ExpectedCondition<T> condition, Duration timeout) {
+        try {
+            return until(condition, timeout);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits until a dashboard container is ready (present, no spinner, network idle) in the
+     * current frame and returns it.
+     *
+     * @param container container locator
+     * @return the container element
+     */
+    public WebElement waitForDashboard(By container) {
+        until(WaitConditions.dashboardReady(container));
+        return driver.findElement(container);
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Sets a driver's implicit wait and remembers it for the waits of this engine.
+     *
+     * @param driver browser driver
+     * @param timeout implicit wait
+     */
+    public static void setImplicitWait(WebDriver driver, Duration timeout) {
+        driver.manage().timeouts().implicitlyWait(timeout);
+        synchronized (implicitWaits) {
+            ImplicitWait known = implicitWaits.get(driver);
+            if (known == null) {
+                implicitWaits.put(driver, new ImplicitWait(timeout));
+            } else {
+                synchronized (known) {
+                    known.configured = timeout;
+                }
+            }
+        }
+    }
+
+    private ImplicitWait suspendImplicitWait() {
+        ImplicitWait state;
+        synchronized (implicitWaits) {
+            state = implicitWaits.computeIfAbsent(driver, d -> new ImplicitWait(readImplicitWait(d)));
+        }
+        synchronized (state) {
+            if (state.suspended++ == 0 && !state.configured.isZero()) {
+                try {
+                    driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+                } catch (Exception e) {
+                    System.out.println("Could not switch off implicit wait: " + e.getMessage());
+                }
+            }
+        }
+        return state;
+    }
+
+    private void restoreImplicitWait(ImplicitWait state) {
+        synchronized (state) {
+            if (--state.suspended > 0 || state.configured.isZero()) {
+                return;
+            }
+            try {
+                driver.manage().timeouts().implicitlyWait(state.configured);
+            } catch (Exception e) {
+                System.out.println("Could not restore implicit wait: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Duration readImplicitWait(WebDriver driver) {
+        try {
+            return driver.manage().timeouts().getImplicitWaitTimeout();
+        } catch (Exception e) {
+            // Unknown; leave the driver's implicit wait alone
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * The implicit wait a driver was configured with and how many waits currently have it switched off.
+     */
+    private static class ImplicitWait {
+        private Duration configured;
+        private int suspended;
+
+        ImplicitWait(Duration configured) {
+            this.configured = configured;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import pageObject.LoginPage;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebDriverPool keeps a bounded set of warm, pre-authenticated Chrome instances that are
+ * leased per scenario instead of being launched and quit every time.
+ *
+ * Between leases a driver is reset cheaply (extra windows closed, sessionStorage cleared,
+ * navigated back to Testurl). Only a driver that fails the health check is quit and replaced.
+ * Idle drivers keep the login of the account that released them: a lease prefers a driver logged
+ * in as its own account (see {@link SessionManager#currentKey}) and wipes the cookies and storage
+ * of any other driver before handing it out.
+ *
+ * Enabled with driver.pool.enabled=true in global.properties.
+ *
+ * @author SreeHarsha
+ * @version 1.0
+ */
+public class WebDriverPool {
+
+    private static final String MICROSOFT_LOGIN_ORIGIN = "https://login.microsoftonline.com";
+    private static volatile WebDriverPool instance;
+
+    private final int maxSize;
+    private final Duration leaseTimeout;
+    private final String homeUrl;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    // Session key (see SessionManager#currentKey) each logged-in driver is authenticated as
+    private final Map<WebDriver, String> authenticatedAs = new ConcurrentHashMap<>();
+    private final Set<WebDriver> allDrivers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger liveDrivers = new AtomicInteger();
+
+    private WebDriverPool(int maxSize, Duration leaseTimeout, String homeUrl) {
+        this.maxSize = maxSize;
+        this.leaseTimeout = leaseTimeout;
+        this.homeUrl = homeUrl;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    /**
+     * Checks whether scenarios should lease drivers from the pool.
+     *
+     * @return true if driver.pool.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("driver.pool.enabled", false);
+    }
+
+    /**
+     * Gets the shared pool, creating it from global.properties on first use.
+     *
+     * @return WebDriverPool instance
+     */
+    public static WebDriverPool getInstance() {
+        if (instance == null) {
+            synchronized (WebDriverPool.class) {
+                if (instance == null) {
+                    // Every scenario browser may lead shard browsers that are leased from the same pool
+                    int defaultSize = Math.max(1, ConfigReader.getInt("parallel.workers", 1)) * ShardedSiteValidator.configuredShards();
+                    int size = Math.max(1, ConfigReader.getInt("driver.pool.size", defaultSize));
+                    int timeoutSeconds = ConfigReader.getInt("driver.pool.lease.timeout.seconds", 120);
+                    instance = new WebDriverPool(size, Duration.ofSeconds(timeoutSeconds), ConfigReader.getProperty("Testurl"));
+                    System.out.println("✅ WebDriver pool created with up to " + size + " browser(s)");
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shuts down the shared pool if it was ever created.
+     */
+    public static void shutdownIfStarted() {
+        WebDriverPool pool = instance;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Leases a healthy driver. Reuses an idle driver when possible, launches a new one while
+     * the pool is below its size, otherwise waits for another scenario to release one.
+     *
+     * @return a warm WebDriver positioned on Testurl
+     * @throws InterruptedException if interrupted while waiting for a free driver
+     */
+    public WebDriver lease() throws InterruptedException {
+        long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        while (true) {
+            WebDriver candidate = pollIdle();
+            if (candidate != null) {
+                if (isHealthy(candidate) && prepareForCurrentAccount(candidate)) {
+                    return candidate;
+                }
+                discard(candidate);
+                continue;
+            }
+
+            int live = liveDrivers.get();
+            if (live < maxSize) {
+                if (liveDrivers.compareAndSet(live, live + 1)) {
+                    WebDriver created = null;
+                    try {
+                        created = TestBase.createDriver();
+                        allDrivers.add(created);
+                        return warmUp(created);
+                    } catch (RuntimeException e) {
+                        if (created != null) {
+                            discard(created);
+                        } else {
+                            liveDrivers.decrementAndGet();
+                        }
+                        throw e;
+                    }
+                }
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("No WebDriver became available within " + leaseTimeout.getSeconds() + "s (pool size " + maxSize + ")");
+            }
+            candidate = idle.poll(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+            if (candidate != null) {
+                if (isHealthy(candidate) && prepareForCurrentAccount(candidate)) {
+                    return candidate;
+                }
+                discard(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns a driver to the pool after resetting it. A driver that cannot be reset
+     * or fails the health check is quit instead.
+     *
+     * @param driver driver previously obtained from {@link #lease()}
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (reset(driver) && isHealthy(driver)) {
+            idle.offer(driver);
+        } else {
+            System.out.println("♻️ Recycling unhealthy WebDriver");
+            discard(driver);
+        }
+    }
+
+    /**
+     * Quits a leased driver without returning it to the pool, freeing its slot for a new browser.
+     *
+     * @param driver driver previously obtained from {@link #lease()}
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver != null) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Checks whether the last reset left the driver on the authenticated Access Point home page,
+     * logged in as this thread's account (see {@link AccountPool}).
+     *
+     * @param driver pooled driver
+     * @return true if the driver is already logged in as the current account
+     */
+    public boolean isAuthenticated(WebDriver driver) {
+        return SessionManager.currentKey().equals(authenticatedAs.get(driver));
+    }
+
+    /**
+     * Quits every driver the pool has launched, including any still leased.
+     */
+    public void shutdown() {
+        idle.clear();
+        for (WebDriver driver : new ArrayList<>(allDrivers)) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Opens Testurl in a fresh driver and restores the saved session so the first lease
+     * already lands on the Access Point home page.
+     */
+    private WebDriver warmUp(WebDriver driver) {
+        driver.get(homeUrl);
+        if (SessionManager.assessSession().isUsable() && SessionManager.loadSessionState(driver)) {
+            driver.get(homeUrl);
+        }
+        refreshAuthenticationState(driver);
+        return driver;
+    }
+
+    /**
+     * Takes an idle driver logged in as this thread's account if there is one, otherwise any idle driver.
+     */
+    private WebDriver pollIdle() {
+        String key = SessionManager.currentKey();
+        for (WebDriver driver : idle) {
+            if (key.equals(authenticatedAs.get(driver)) && idle.remove(driver)) {
+                return driver;
+            }
+        }
+        return idle.poll();
+    }
+
+    /**
+     * Leaves a driver that is not logged in as this thread's account without any cookies or storage,
+     * so the login steps start from the Graphene user selection instead of another account's portal.
+     */
+    private boolean prepareForCurrentAccount(WebDriver driver) {
+        if (SessionManager.currentKey().equals(authenticatedAs.get(driver))) {
+            return true;
+        }
+        try {
+            clearLogin(driver);
+            driver.get(homeUrl);
+            refreshAuthenticationState(driver);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Could not clear pooled WebDriver for another account: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clears the cookies of every domain and the web storage of the portal and the Microsoft login
+     * origin (MSAL token cache) through CDP. Without DevTools only the current origin's storage and
+     * cookies can be cleared.
+     */
+    private void clearLogin(WebDriver driver) {
+        if (driver instanceof HasDevTools) {
+            try {
+                DevTools devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                devTools.send(new Command<>("Network.clearBrowserCookies", Map.of()));
+                for (String origin : new String[]{originOf(homeUrl), MICROSOFT_LOGIN_ORIGIN}) {
+                    devTools.send(new Command<>("Storage.clearDataForOrigin",
+                            Map.of("origin", origin, "storageTypes", "local_storage,session_storage")));
+                }
+                return;
+            } catch (Exception e) {
+                System.out.println("CDP login clear unavailable, clearing the current origin only: " + e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        driver.manage().deleteAllCookies();
+    }
+
+    private static String originOf(String url) {
+        URI uri = URI.create(url.trim());
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+    }
+
+    /**
+     * Brings a driver back to a clean single-window state on Testurl.
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            String keep = handles.get(0);
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+            driver.switchTo().window(keep);
+            driver.switchTo().defaultContent();
+            // The next lease may be another account; stop replaying this scenario's restored storage
+            SessionManager.removeRestoreScript(driver);
+            ((JavascriptExecutor) driver).executeScript("window.sessionStorage.clear();");
+            driver.get(homeUrl);
+            refreshAuthenticationState(driver);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Could not reset pooled WebDriver: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void refreshAuthenticationState(WebDriver driver) {
+        try {
+            new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.or(
+                    ExpectedConditions.presenceOfElementLocated(LoginPage.accessPointText),
+                    ExpectedConditions.presenceOfElementLocated(LoginPage.grapheneUserText)));
+            if (!driver.findElements(LoginPage.accessPointText).isEmpty()) {
+                authenticatedAs.put(driver, SessionManager.currentKey());
+                return;
+            }
+        } catch (Exception e) {
+            System.out.println("Could not determine login state of pooled WebDriver: " + e.getMessage());
+        }
+        authenticatedAs.remove(driver);
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null) {
+                return false;
+            }
+            return !driver.getWindowHandles().isEmpty()
+                    && ((JavascriptExecutor) driver).executeScript("return document.readyState;") != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        authenticatedAs.remove(driver);
+        if (!allDrivers.remove(driver)) {
+            return;
+        }
+        liveDrivers.decrementAndGet();
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Error quitting pooled WebDriver: " + e.getMessage());
+        }
+    }
+}